@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.packet;
+
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+
+import java.util.List;
+
+/**
+ * Query row encoder, which writes values of query row into packet payload directly.
+ * 
+ * <p>Encoder of each column is chosen once by column types of query result, and is reused for all rows.</p>
+ *
+ * @param <T> type of packet payload
+ */
+public interface QueryRowEncoder<T extends PacketPayload> {
+    
+    /**
+     * Encode query row.
+     *
+     * @param payload packet payload to be written
+     * @param row values of query row
+     */
+    void encode(T payload, List<Object> row);
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.QueryRowEncoder;
+
+import java.util.List;
+
+/**
+ * Binary result set row encoder for MySQL.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder implements QueryRowEncoder<MySQLPacketPayload> {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final BinaryColumnType[] columnTypes;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    public MySQLBinaryResultSetRowEncoder(final List<BinaryColumnType> columnTypes) {
+        this.columnTypes = columnTypes.toArray(new BinaryColumnType[0]);
+        binaryProtocolValues = new MySQLBinaryProtocolValue[this.columnTypes.length];
+    }
+    
+    @Override
+    public void encode(final MySQLPacketPayload payload, final List<Object> row) {
+        payload.writeInt1(PACKET_HEADER);
+        writeNullBitmap(payload, row);
+        writeValues(payload, row);
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload, final List<Object> row) {
+        int bitmap = 0;
+        int bitPosition = NULL_BITMAP_OFFSET;
+        for (int i = 0; i < row.size(); i++) {
+            if (null == row.get(i)) {
+                bitmap |= 1 << bitPosition;
+            }
+            if (8 == ++bitPosition) {
+                payload.writeInt1(bitmap);
+                bitmap = 0;
+                bitPosition = 0;
+            }
+        }
+        if (0 != bitPosition) {
+            payload.writeInt1(bitmap);
+        }
+    }
+    
+    private void writeValues(final MySQLPacketPayload payload, final List<Object> row) {
+        for (int i = 0; i < row.size(); i++) {
+            Object data = row.get(i);
+            if (null != data) {
+                getBinaryProtocolValue(i).write(payload, data);
+            }
+        }
+    }
+    
+    private MySQLBinaryProtocolValue getBinaryProtocolValue(final int columnIndex) {
+        MySQLBinaryProtocolValue result = binaryProtocolValues[columnIndex];
+        if (null == result) {
+            result = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[columnIndex]);
+            binaryProtocolValues[columnIndex] = result;
+        }
+        return result;
+    }
+}
@@ -19,11 +19,14 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Binary result set row packet for MySQL.
  * 
@@ -32,43 +35,23 @@ import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 @RequiredArgsConstructor
 public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     
-    private static final int PACKET_HEADER = 0x00;
-    
-    private static final int NULL_BITMAP_OFFSET = 2;
+    private final MySQLBinaryResultSetRowEncoder encoder;
     
-    private final BinaryRow row;
+    private final List<Object> row;
     
-    @Override
-    public void write(final MySQLPacketPayload payload) {
-        payload.writeInt1(PACKET_HEADER);
-        writeNullBitmap(payload);
-        writeValues(payload);
-    }
-    
-    private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
+    public MySQLBinaryResultSetRowPacket(final BinaryRow row) {
+        List<BinaryColumnType> columnTypes = new ArrayList<>(row.getCells().size());
+        List<Object> data = new ArrayList<>(row.getCells().size());
         for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
-            }
-            index++;
+            columnTypes.add(each.getColumnType());
+            data.add(each.getData());
         }
-        return result;
+        encoder = new MySQLBinaryResultSetRowEncoder(columnTypes);
+        this.row = data;
     }
     
-    private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
-            }
-        }
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        encoder.encode(payload, row);
     }
 }
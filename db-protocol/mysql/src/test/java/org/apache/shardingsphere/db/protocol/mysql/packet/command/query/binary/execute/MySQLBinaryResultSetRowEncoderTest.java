@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLBinaryResultSetRowEncoderTest {
+    
+    @Mock
+    private MySQLPacketPayload payload;
+    
+    @Test
+    void assertEncode() {
+        MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(Arrays.asList(MySQLBinaryColumnType.MYSQL_TYPE_LONG, MySQLBinaryColumnType.MYSQL_TYPE_STRING));
+        encoder.encode(payload, Arrays.<Object>asList(1, null));
+        InOrder inOrder = inOrder(payload);
+        inOrder.verify(payload).writeInt1(0x00);
+        inOrder.verify(payload).writeInt1(0x08);
+        inOrder.verify(payload).writeInt4(1);
+    }
+    
+    @Test
+    void assertEncodeNullBitmapWithMultipleBytes() {
+        MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(Collections.nCopies(7, MySQLBinaryColumnType.MYSQL_TYPE_STRING));
+        encoder.encode(payload, Arrays.<Object>asList("foo", null, null, null, null, null, null));
+        verify(payload).writeInt1(0xf8);
+        verify(payload).writeInt1(0x01);
+        verify(payload).writeStringLenenc("foo");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.packet.QueryRowEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.List;
+
+/**
+ * Data row encoder for PostgreSQL.
+ * 
+ * <p>Columns with binary column type are written in binary format, others are written in text format.</p>
+ */
+public final class PostgreSQLDataRowEncoder implements QueryRowEncoder<PostgreSQLPacketPayload> {
+    
+    private final BinaryColumnType[] binaryColumnTypes;
+    
+    private final PostgreSQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    /**
+     * Create data row encoder.
+     *
+     * @param binaryColumnTypes binary column types, null element means the column is written in text format
+     */
+    public PostgreSQLDataRowEncoder(final List<BinaryColumnType> binaryColumnTypes) {
+        this.binaryColumnTypes = binaryColumnTypes.toArray(new BinaryColumnType[0]);
+        binaryProtocolValues = new PostgreSQLBinaryProtocolValue[this.binaryColumnTypes.length];
+    }
+    
+    @Override
+    public void encode(final PostgreSQLPacketPayload payload, final List<Object> row) {
+        payload.writeInt2(row.size());
+        for (int i = 0; i < row.size(); i++) {
+            Object each = row.get(i);
+            if (each instanceof BinaryCell) {
+                writeBinaryCell(payload, (BinaryCell) each);
+            } else if (i < binaryColumnTypes.length && null != binaryColumnTypes[i]) {
+                writeBinaryColumnValue(payload, each, i);
+            } else {
+                writeTextValue(payload, each);
+            }
+        }
+    }
+    
+    private void writeBinaryCell(final PostgreSQLPacketPayload payload, final BinaryCell binaryCell) {
+        if (null == binaryCell.getData()) {
+            payload.writeInt4(0xFFFFFFFF);
+            return;
+        }
+        writeBinaryValue(payload, binaryCell.getData(), PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(binaryCell.getColumnType()));
+    }
+    
+    private void writeBinaryColumnValue(final PostgreSQLPacketPayload payload, final Object value, final int columnIndex) {
+        if (null == value) {
+            payload.writeInt4(0xFFFFFFFF);
+            return;
+        }
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = binaryProtocolValues[columnIndex];
+        if (null == binaryProtocolValue) {
+            binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(binaryColumnTypes[columnIndex]);
+            binaryProtocolValues[columnIndex] = binaryProtocolValue;
+        }
+        writeBinaryValue(payload, value, binaryProtocolValue);
+    }
+    
+    private void writeBinaryValue(final PostgreSQLPacketPayload payload, final Object value, final PostgreSQLBinaryProtocolValue binaryProtocolValue) {
+        payload.writeInt4(binaryProtocolValue.getColumnLength(value));
+        binaryProtocolValue.write(payload, value);
+    }
+    
+    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
+        if (null == each) {
+            payload.writeInt4(0xFFFFFFFF);
+        } else if (each instanceof byte[]) {
+            payload.writeInt4(((byte[]) each).length);
+            payload.writeBytes((byte[]) each);
+        } else if (each instanceof SQLXML) {
+            writeSQLXMLData(payload, each);
+        } else {
+            byte[] columnData = each.toString().getBytes(payload.getCharset());
+            payload.writeInt4(columnData.length);
+            payload.writeBytes(columnData);
+        }
+    }
+    
+    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
+        try {
+            byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
+            payload.writeInt4(dataBytes.length);
+            payload.writeBytes(dataBytes);
+        } catch (final SQLException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
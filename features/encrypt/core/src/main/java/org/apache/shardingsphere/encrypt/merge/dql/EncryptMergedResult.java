@@ -24,37 +24,62 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>Decryptor of each column index is found from meta data once when the column is read at first time, and reused for the following rows.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
+    private static final ColumnDecryptor NO_DECRYPTOR = new ColumnDecryptor(null, null);
+    
     private final EncryptAlgorithmMetaData metaData;
     
     private final MergedResult mergedResult;
     
+    private ColumnDecryptor[] columnDecryptors = new ColumnDecryptor[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ColumnDecryptor columnDecryptor = getColumnDecryptor(columnIndex);
+        if (NO_DECRYPTOR == columnDecryptor) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return null == cipherValue ? null : columnDecryptor.encryptAlgorithm.decrypt(cipherValue, columnDecryptor.encryptContext);
+    }
+    
+    private ColumnDecryptor getColumnDecryptor(final int columnIndex) {
+        if (columnDecryptors.length < columnIndex) {
+            columnDecryptors = Arrays.copyOf(columnDecryptors, columnIndex);
+        }
+        ColumnDecryptor result = columnDecryptors[columnIndex - 1];
+        if (null == result) {
+            result = findColumnDecryptor(columnIndex).orElse(NO_DECRYPTOR);
+            columnDecryptors[columnIndex - 1] = result;
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
         if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return encryptAlgorithm.map(optional -> new ColumnDecryptor(optional, encryptContext.get()));
     }
     
     @Override
@@ -71,4 +96,18 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @SuppressWarnings("rawtypes")
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptAlgorithm;
+        
+        private final EncryptContext encryptContext;
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.KeyGenerateAlgorithmInitializationException;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.SnowflakeClockMoveBackException;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free snowflake key generate algorithm.
+ * 
+ * <p>
+ * Keys have the same layout as {@link SnowflakeKeyGenerateAlgorithm}. Timestamp offset and sequence are packed into one {@code long},
+ * which is advanced by CAS, so that a contiguous block of keys can be reserved in one step.
+ * Once sequence of a millisecond is exhausted, or clock moves back within max tolerate time difference,
+ * sequence of following milliseconds is borrowed instead of sleeping.
+ * Block is reserved only if its first key is not ahead of clock by more than max tolerate time difference, otherwise reserving yields and retries.
+ * </p>
+ */
+public final class LockFreeSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    private static final int DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong(-1L);
+    
+    private final AtomicLong lastObservedMilliseconds = new AtomicLong();
+    
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private volatile int sequenceOffset = -1;
+    
+    private volatile InstanceContext instanceContext;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(props);
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        this.instanceContext = instanceContext;
+        if (null != instanceContext) {
+            instanceContext.generateWorkerId(props);
+        }
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK, () -> new KeyGenerateAlgorithmInitializationException(getType(), "Illegal max vibration offset."));
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new KeyGenerateAlgorithmInitializationException(getType(), "Illegal max tolerate time difference milliseconds."));
+        return result;
+    }
+    
+    @Override
+    public Long generateKey() {
+        return toKey(reserve(1), getWorkerId());
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int keyGenerateCount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount);
+        if (keyGenerateCount <= 0) {
+            return result;
+        }
+        long firstTimestampAndSequence = reserve(keyGenerateCount);
+        int workerId = getWorkerId();
+        for (int i = 0; i < keyGenerateCount; i++) {
+            result.add(toKey(firstTimestampAndSequence + i, workerId));
+        }
+        return result;
+    }
+    
+    private long reserve(final int keyGenerateCount) {
+        while (true) {
+            long currentMilliseconds = observeCurrentMilliseconds();
+            long currentTimestamp = (currentMilliseconds - SnowflakeKeyGenerateAlgorithm.EPOCH) << SEQUENCE_BITS;
+            long last = lastTimestampAndSequence.get();
+            long first = last + 1L;
+            if (first < currentTimestamp) {
+                first = currentTimestamp + vibrateSequenceOffset();
+            } else if ((first >> SEQUENCE_BITS) - (currentTimestamp >> SEQUENCE_BITS) > maxTolerateTimeDifferenceMilliseconds) {
+                Thread.yield();
+                continue;
+            }
+            if (lastTimestampAndSequence.compareAndSet(last, first + keyGenerateCount - 1L)) {
+                return first;
+            }
+        }
+    }
+    
+    private long observeCurrentMilliseconds() {
+        long result = timeService.getCurrentMillis();
+        long lastMilliseconds = lastObservedMilliseconds.get();
+        while (result > lastMilliseconds) {
+            if (lastObservedMilliseconds.compareAndSet(lastMilliseconds, result)) {
+                return result;
+            }
+            lastMilliseconds = lastObservedMilliseconds.get();
+        }
+        long timeDifferenceMilliseconds = lastMilliseconds - result;
+        ShardingSpherePreconditions.checkState(0L == timeDifferenceMilliseconds || timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds,
+                () -> new SnowflakeClockMoveBackException(result + timeDifferenceMilliseconds, result));
+        return result;
+    }
+    
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    private int vibrateSequenceOffset() {
+        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+        return sequenceOffset;
+    }
+    
+    private long toKey(final long timestampAndSequence, final int workerId) {
+        return ((timestampAndSequence >> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) workerId << WORKER_ID_LEFT_SHIFT_BITS) | (timestampAndSequence & SEQUENCE_MASK);
+    }
+    
+    private int getWorkerId() {
+        return null == instanceContext ? DEFAULT_WORKER_ID : instanceContext.getWorkerId();
+    }
+    
+    @Override
+    public String getType() {
+        return "LOCK_FREE_SNOWFLAKE";
+    }
+}
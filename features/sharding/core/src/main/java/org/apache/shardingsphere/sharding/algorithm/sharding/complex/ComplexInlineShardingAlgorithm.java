@@ -21,6 +21,8 @@ import groovy.lang.Closure;
 import groovy.util.Expando;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionCompiler;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
@@ -35,6 +37,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -51,6 +54,8 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private Collection<String> shardingColumns;
     
     private boolean allowRangeQuery;
@@ -58,6 +63,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = InlineExpressionCompiler.compile(algorithmExpression).orElse(null);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -92,9 +98,17 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     }
     
     private String doSharding(final Map<String, Comparable<?>> shardingValues) {
+        for (Comparable<?> each : shardingValues.values()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+        }
+        if (null != compiledAlgorithmExpression) {
+            Optional<String> result = compiledAlgorithmExpression.evaluate(shardingValues);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> closure = createClosure();
         for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            ShardingSpherePreconditions.checkNotNull(entry.getValue(), NullShardingValueException::new);
             closure.setProperty(entry.getKey(), entry.getValue());
         }
         return closure.call().toString();
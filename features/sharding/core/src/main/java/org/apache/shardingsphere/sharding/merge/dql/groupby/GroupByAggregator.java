@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar.ColumnarAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar.ColumnarAggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aggregator for group by.
+ * 
+ * <p>
+ * Group by values are mapped to dense group IDs by open addressing hash table, and aggregation states are kept in columnar aggregation units indexed by group ID,
+ * so that no object is allocated for rows of existed groups except values read from query result.
+ * </p>
+ */
+public final class GroupByAggregator {
+    
+    private static final int INITIAL_GROUP_SIZE = 1024;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int[] groupByIndexes;
+    
+    private final int[] aggregationIndexes;
+    
+    private final ColumnarAggregationUnit[] aggregationUnits;
+    
+    private final GroupByKeyTable keyTable = new GroupByKeyTable(INITIAL_GROUP_SIZE);
+    
+    private Object[] groupByValues;
+    
+    private MemoryQueryResultRow[] rows = new MemoryQueryResultRow[INITIAL_GROUP_SIZE];
+    
+    public GroupByAggregator(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        groupByIndexes = selectStatementContext.getGroupByContext().getItems().stream().mapToInt(OrderByItem::getIndex).toArray();
+        Collection<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        aggregationIndexes = aggregationProjections.stream().mapToInt(AggregationProjection::getIndex).toArray();
+        aggregationUnits = aggregationProjections.stream().map(ColumnarAggregationUnitFactory::create).toArray(ColumnarAggregationUnit[]::new);
+        groupByValues = new Object[groupByIndexes.length];
+    }
+    
+    /**
+     * Get group size.
+     *
+     * @return group size
+     */
+    public int size() {
+        return keyTable.getSize();
+    }
+    
+    /**
+     * Aggregate current row of query result into group.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        aggregate(queryResult, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Aggregate current row of query result into group if group exists or group size is less than max group size.
+     *
+     * @param queryResult query result
+     * @param maxGroupSize max group size
+     * @return aggregated or not
+     * @throws SQLException SQL exception
+     */
+    public boolean aggregate(final QueryResult queryResult, final int maxGroupSize) throws SQLException {
+        for (int i = 0; i < groupByIndexes.length; i++) {
+            groupByValues[i] = queryResult.getValue(groupByIndexes[i], Object.class);
+        }
+        int hash = GroupByKeyTable.hash(groupByValues);
+        int groupId = keyTable.find(groupByValues, hash);
+        if (groupId < 0) {
+            if (keyTable.getSize() >= maxGroupSize) {
+                return false;
+            }
+            groupId = keyTable.add(groupByValues, hash);
+            groupByValues = new Object[groupByIndexes.length];
+            if (groupId >= rows.length) {
+                rows = Arrays.copyOf(rows, rows.length << 1);
+            }
+            rows[groupId] = new MemoryQueryResultRow(queryResult);
+        }
+        for (ColumnarAggregationUnit each : aggregationUnits) {
+            each.merge(groupId, queryResult);
+        }
+        return true;
+    }
+    
+    /**
+     * Get aggregated result rows.
+     *
+     * @return aggregated result rows
+     */
+    public List<MemoryQueryResultRow> getResultRows() {
+        int size = keyTable.getSize();
+        for (int groupId = 0; groupId < size; groupId++) {
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                rows[groupId].setCell(aggregationIndexes[i], aggregationUnits[i].getResult(groupId));
+            }
+        }
+        return Arrays.asList(rows).subList(0, size);
+    }
+    
+    /**
+     * Get result rows for empty query results.
+     *
+     * @return result rows for empty query results
+     */
+    public List<MemoryQueryResultRow> getEmptyResultRows() {
+        Object[] data = generateReturnData();
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+}
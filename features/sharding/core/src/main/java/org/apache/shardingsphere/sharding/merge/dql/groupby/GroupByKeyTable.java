@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table which maps group by values to dense group IDs.
+ */
+public final class GroupByKeyTable {
+    
+    private static final int EMPTY_SLOT = -1;
+    
+    private int[] slotGroupIds;
+    
+    private int[] slotHashes;
+    
+    private Object[][] groupByValues;
+    
+    private int mask;
+    
+    @Getter
+    private int size;
+    
+    public GroupByKeyTable(final int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) - 1) << 2;
+        slotGroupIds = new int[capacity];
+        Arrays.fill(slotGroupIds, EMPTY_SLOT);
+        slotHashes = new int[capacity];
+        groupByValues = new Object[capacity >> 1][];
+        mask = capacity - 1;
+    }
+    
+    /**
+     * Calculate hash of group by values.
+     *
+     * @param values group by values
+     * @return hash of group by values
+     */
+    public static int hash(final Object[] values) {
+        int result = Arrays.hashCode(values);
+        return result ^ result >>> 16;
+    }
+    
+    /**
+     * Find group ID.
+     *
+     * @param values group by values
+     * @param hash hash of group by values
+     * @return group ID, -1 if absent
+     */
+    public int find(final Object[] values, final int hash) {
+        int slot = hash & mask;
+        while (EMPTY_SLOT != slotGroupIds[slot]) {
+            if (hash == slotHashes[slot] && Arrays.equals(values, groupByValues[slotGroupIds[slot]])) {
+                return slotGroupIds[slot];
+            }
+            slot = slot + 1 & mask;
+        }
+        return EMPTY_SLOT;
+    }
+    
+    /**
+     * Add group by values which are absent in table.
+     *
+     * @param values group by values, table holds the array and it should not be modified after added
+     * @param hash hash of group by values
+     * @return group ID
+     */
+    public int add(final Object[] values, final int hash) {
+        if (size == groupByValues.length) {
+            resize();
+        }
+        int result = size++;
+        groupByValues[result] = values;
+        insertSlot(result, hash);
+        return result;
+    }
+    
+    private void insertSlot(final int groupId, final int hash) {
+        int slot = hash & mask;
+        while (EMPTY_SLOT != slotGroupIds[slot]) {
+            slot = slot + 1 & mask;
+        }
+        slotGroupIds[slot] = groupId;
+        slotHashes[slot] = hash;
+    }
+    
+    private void resize() {
+        int[] originalGroupIds = slotGroupIds;
+        int[] originalHashes = slotHashes;
+        int capacity = originalGroupIds.length << 1;
+        slotGroupIds = new int[capacity];
+        Arrays.fill(slotGroupIds, EMPTY_SLOT);
+        slotHashes = new int[capacity];
+        groupByValues = Arrays.copyOf(groupByValues, capacity >> 1);
+        mask = capacity - 1;
+        for (int i = 0; i < originalGroupIds.length; i++) {
+            if (EMPTY_SLOT != originalGroupIds[i]) {
+                insertSlot(originalGroupIds[i], originalHashes[i]);
+            }
+        }
+    }
+}
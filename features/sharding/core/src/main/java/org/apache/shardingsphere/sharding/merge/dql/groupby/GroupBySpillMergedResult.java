@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.ShardingSphereSQLException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.ExternalRowSorter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFile;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileQueryResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Spill merged result for group by.
+ * 
+ * <p>
+ * Groups are hash aggregated in memory until the max memory rows reached, rows of the other groups are partitioned into temporary files by hash of group by values
+ * and aggregated partition by partition later. Aggregated rows are sorted by external sort, which spills sorted runs to temporary files and merges them with k-way merge.
+ * Aggregation and sorting share the same max memory rows, rows kept in memory by sorter are spilled before aggregating next partition.
+ * Temporary files which are not consumed yet are deleted when merged result is closed.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxMemoryRows;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final ExternalRowSorter sorter;
+    
+    private final Iterator<MemoryQueryResultRow> emptyResultRows;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryRows) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryRows = maxMemoryRows;
+        metaData = queryResults.get(0).getMetaData();
+        columnCount = metaData.getColumnCount();
+        List<Boolean> valueCaseSensitive = GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        sorter = new ExternalRowSorter(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), maxMemoryRows, columnCount);
+        try {
+            aggregate(queryResults, 0);
+            sorter.sort();
+        } catch (final SQLException | ShardingSphereSQLException ex) {
+            sorter.close();
+            throw ex;
+        }
+        emptyResultRows = sorter.isEmpty() ? new GroupByAggregator(selectStatementContext).getEmptyResultRows().iterator() : Collections.emptyIterator();
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int depth) throws SQLException {
+        SpillFile[] partitions = new SpillFile[PARTITION_COUNT];
+        try {
+            aggregateWithinMemory(queryResults, depth, partitions).forEach(sorter::add);
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                if (null != partitions[i]) {
+                    sorter.spill();
+                    aggregate(Collections.singletonList(new SpillFileQueryResult(partitions[i], metaData)), depth + 1);
+                    partitions[i].close();
+                    partitions[i] = null;
+                }
+            }
+        } finally {
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    each.close();
+                }
+            }
+        }
+    }
+    
+    private Collection<MemoryQueryResultRow> aggregateWithinMemory(final List<QueryResult> queryResults, final int depth, final SpillFile[] partitions) throws SQLException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+        int maxGroupSize = depth >= MAX_PARTITION_DEPTH ? Integer.MAX_VALUE : maxMemoryRows;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                if (!aggregator.aggregate(each, maxGroupSize)) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                    spillToPartition(partitions, getPartitionIndex(groupByValue, depth), each);
+                }
+            }
+        }
+        return aggregator.getResultRows();
+    }
+    
+    private void spillToPartition(final SpillFile[] partitions, final int partitionIndex, final QueryResult queryResult) throws SQLException {
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = new SpillFile(columnCount);
+        }
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        partitions[partitionIndex].write(row);
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int result = groupByValue.hashCode() ^ (depth + 1) * 0x9E3779B9;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 15;
+        return Math.floorMod(result, PARTITION_COUNT);
+    }
+    
+    @Override
+    public boolean next() {
+        if (emptyResultRows.hasNext()) {
+            currentRow = emptyResultRows.next();
+            return true;
+        }
+        if (sorter.next()) {
+            currentRow = sorter.getCurrentRow();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(Blob.class != type && Clob.class != type && Reader.class != type && InputStream.class != type && SQLXML.class != type,
+                () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        sorter.close();
+    }
+}
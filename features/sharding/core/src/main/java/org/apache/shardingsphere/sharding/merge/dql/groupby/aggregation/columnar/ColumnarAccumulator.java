@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Columnar accumulator, accumulates integral values into primitive long and falls back to big decimal for other values or overflow.
+ */
+public final class ColumnarAccumulator {
+    
+    private long[] longValues = new long[ColumnarAggregationUnitFactory.INITIAL_CAPACITY];
+    
+    private BigDecimal[] decimalValues = new BigDecimal[ColumnarAggregationUnitFactory.INITIAL_CAPACITY];
+    
+    private boolean[] accumulated = new boolean[ColumnarAggregationUnitFactory.INITIAL_CAPACITY];
+    
+    /**
+     * Add value into group.
+     *
+     * @param groupId group ID
+     * @param value value to be added
+     */
+    public void add(final int groupId, final Object value) {
+        if (groupId >= accumulated.length) {
+            int capacity = Math.max(groupId + 1, accumulated.length << 1);
+            longValues = Arrays.copyOf(longValues, capacity);
+            decimalValues = Arrays.copyOf(decimalValues, capacity);
+            accumulated = Arrays.copyOf(accumulated, capacity);
+        }
+        accumulated[groupId] = true;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long addend = ((Number) value).longValue();
+            long sum = longValues[groupId] + addend;
+            if (((longValues[groupId] ^ sum) & (addend ^ sum)) >= 0) {
+                longValues[groupId] = sum;
+                return;
+            }
+        }
+        BigDecimal addend = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        decimalValues[groupId] = null == decimalValues[groupId] ? addend : decimalValues[groupId].add(addend);
+    }
+    
+    /**
+     * Get accumulated value of group.
+     *
+     * @param groupId group ID
+     * @return accumulated value, null if nothing accumulated
+     */
+    public BigDecimal get(final int groupId) {
+        if (groupId >= accumulated.length || !accumulated[groupId]) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(longValues[groupId]);
+        return null == decimalValues[groupId] ? result : result.add(decimalValues[groupId]);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Columnar aggregation unit, holds aggregation states of all groups in arrays indexed by group ID.
+ */
+public interface ColumnarAggregationUnit {
+    
+    /**
+     * Merge aggregation values of current row into group.
+     *
+     * @param groupId group ID
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    void merge(int groupId, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Get aggregation result of group.
+     *
+     * @param groupId group ID
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int groupId);
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+
+import java.util.List;
+
+/**
+ * Columnar aggregation unit factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarAggregationUnitFactory {
+    
+    static final int INITIAL_CAPACITY = 64;
+    
+    /**
+     * Create columnar aggregation unit instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return columnar aggregation unit instance
+     */
+    public static ColumnarAggregationUnit create(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return new DelegateColumnarAggregationUnit(aggregationProjection);
+        }
+        List<AggregationProjection> derivedProjections = aggregationProjection.getDerivedAggregationProjections();
+        int columnIndex = derivedProjections.isEmpty() ? aggregationProjection.getIndex() : derivedProjections.get(0).getIndex();
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return new ComparableColumnarAggregationUnit(columnIndex, false);
+            case MIN:
+                return new ComparableColumnarAggregationUnit(columnIndex, true);
+            case SUM:
+            case COUNT:
+                return new AccumulationColumnarAggregationUnit(columnIndex);
+            case AVG:
+                return derivedProjections.size() < 2
+                        ? new DelegateColumnarAggregationUnit(aggregationProjection)
+                        : new AverageColumnarAggregationUnit(derivedProjections.get(0).getIndex(), derivedProjections.get(1).getIndex());
+            default:
+                return new DelegateColumnarAggregationUnit(aggregationProjection);
+        }
+    }
+}
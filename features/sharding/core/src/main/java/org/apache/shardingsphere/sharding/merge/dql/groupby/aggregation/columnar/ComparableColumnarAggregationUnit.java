@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable columnar aggregation unit.
+ */
+@RequiredArgsConstructor
+public final class ComparableColumnarAggregationUnit implements ColumnarAggregationUnit {
+    
+    private final int columnIndex;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] results = new Comparable<?>[ColumnarAggregationUnitFactory.INITIAL_CAPACITY];
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void merge(final int groupId, final QueryResult queryResult) throws SQLException {
+        Comparable<?> value = AggregationValueUtils.getValue(queryResult, columnIndex);
+        if (null == value) {
+            return;
+        }
+        if (groupId >= results.length) {
+            results = Arrays.copyOf(results, Math.max(groupId + 1, results.length << 1));
+        }
+        if (null == results[groupId]) {
+            results[groupId] = value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(results[groupId]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            results[groupId] = value;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupId) {
+        return groupId < results.length ? results[groupId] : null;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar aggregation unit which delegates to aggregation unit of each group.
+ */
+public final class DelegateColumnarAggregationUnit implements ColumnarAggregationUnit {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private final boolean distinct;
+    
+    private AggregationUnit[] units = new AggregationUnit[ColumnarAggregationUnitFactory.INITIAL_CAPACITY];
+    
+    public DelegateColumnarAggregationUnit(final AggregationProjection aggregationProjection) {
+        this.aggregationProjection = aggregationProjection;
+        distinct = aggregationProjection instanceof AggregationDistinctProjection;
+    }
+    
+    @Override
+    public void merge(final int groupId, final QueryResult queryResult) throws SQLException {
+        if (groupId >= units.length) {
+            units = Arrays.copyOf(units, Math.max(groupId + 1, units.length << 1));
+        }
+        if (null == units[groupId]) {
+            units[groupId] = AggregationUnitFactory.create(aggregationProjection.getType(), distinct);
+        }
+        List<Comparable<?>> values = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            values.add(AggregationValueUtils.getValue(queryResult, aggregationProjection.getIndex()));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                values.add(AggregationValueUtils.getValue(queryResult, each.getIndex()));
+            }
+        }
+        units[groupId].merge(values);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupId) {
+        return groupId < units.length && null != units[groupId] ? units[groupId].getResult() : null;
+    }
+}
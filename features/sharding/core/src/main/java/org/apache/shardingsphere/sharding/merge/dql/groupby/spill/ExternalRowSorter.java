@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * External row sorter, sorts rows in memory and spills sorted runs to temporary files when rows exceed memory limitation.
+ * 
+ * <p>Sorted runs are merged with k-way merge, at most {@value #MAX_MERGE_FAN_IN} runs are open at the same time.
+ * If there are more runs, they are merged into longer runs pass by pass before the final merge.</p>
+ */
+@RequiredArgsConstructor
+public final class ExternalRowSorter implements AutoCloseable {
+    
+    private static final int MAX_MERGE_FAN_IN = 64;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int maxMemoryRows;
+    
+    private final int columnCount;
+    
+    private final List<MemoryQueryResultRow> memoryRows = new ArrayList<>();
+    
+    private final Queue<SpillFile> sortedRuns = new LinkedList<>();
+    
+    private final Queue<SortedRunCursor> mergeQueue = new PriorityQueue<>();
+    
+    private int memoryRowIndex;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     */
+    public void add(final MemoryQueryResultRow row) {
+        memoryRows.add(row);
+        if (memoryRows.size() >= maxMemoryRows) {
+            spillSortedRun();
+        }
+    }
+    
+    /**
+     * Spill rows kept in memory to sorted run, so that memory is released for other stages sharing the same memory limitation.
+     */
+    public void spill() {
+        if (!memoryRows.isEmpty()) {
+            spillSortedRun();
+        }
+    }
+    
+    private void spillSortedRun() {
+        memoryRows.sort(comparator);
+        SpillFile sortedRun = new SpillFile(columnCount);
+        sortedRuns.add(sortedRun);
+        for (MemoryQueryResultRow each : memoryRows) {
+            sortedRun.write(getValues(each));
+        }
+        memoryRows.clear();
+    }
+    
+    private Object[] getValues(final MemoryQueryResultRow row) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether sorter is empty.
+     *
+     * @return sorter is empty or not
+     */
+    public boolean isEmpty() {
+        return memoryRows.isEmpty() && sortedRuns.isEmpty();
+    }
+    
+    /**
+     * Finish adding rows and prepare to iterate sorted rows.
+     */
+    public void sort() {
+        memoryRows.sort(comparator);
+        if (sortedRuns.isEmpty()) {
+            return;
+        }
+        if (!memoryRows.isEmpty()) {
+            spillSortedRun();
+        }
+        while (sortedRuns.size() > MAX_MERGE_FAN_IN) {
+            mergeSortedRuns();
+        }
+        offerCursors(sortedRuns, mergeQueue);
+    }
+    
+    private void mergeSortedRuns() {
+        Collection<SpillFile> runs = new LinkedList<>();
+        for (int i = 0; i < MAX_MERGE_FAN_IN; i++) {
+            runs.add(sortedRuns.poll());
+        }
+        SpillFile mergedRun = new SpillFile(columnCount);
+        sortedRuns.add(mergedRun);
+        try {
+            Queue<SortedRunCursor> queue = new PriorityQueue<>(MAX_MERGE_FAN_IN);
+            offerCursors(runs, queue);
+            while (!queue.isEmpty()) {
+                SortedRunCursor cursor = queue.poll();
+                mergedRun.write(getValues(cursor.currentRow));
+                if (cursor.next()) {
+                    queue.offer(cursor);
+                }
+            }
+        } finally {
+            runs.forEach(SpillFile::close);
+        }
+    }
+    
+    private void offerCursors(final Collection<SpillFile> runs, final Queue<SortedRunCursor> queue) {
+        for (SpillFile each : runs) {
+            SortedRunCursor cursor = new SortedRunCursor(each);
+            if (cursor.next()) {
+                queue.offer(cursor);
+            }
+        }
+    }
+    
+    /**
+     * Move to next sorted row.
+     *
+     * @return has next row or not
+     */
+    public boolean next() {
+        if (sortedRuns.isEmpty()) {
+            if (memoryRowIndex < memoryRows.size()) {
+                currentRow = memoryRows.get(memoryRowIndex++);
+                return true;
+            }
+            return false;
+        }
+        if (mergeQueue.isEmpty()) {
+            return false;
+        }
+        SortedRunCursor cursor = mergeQueue.poll();
+        currentRow = cursor.currentRow;
+        if (cursor.next()) {
+            mergeQueue.offer(cursor);
+        } else {
+            cursor.sortedRun.close();
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        mergeQueue.clear();
+        sortedRuns.forEach(SpillFile::close);
+        sortedRuns.clear();
+        memoryRows.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private final class SortedRunCursor implements Comparable<SortedRunCursor> {
+        
+        private final SpillFile sortedRun;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private boolean next() {
+            if (!sortedRun.hasNext()) {
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(sortedRun.next());
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final SortedRunCursor o) {
+            return comparator.compare(currentRow, o.currentRow);
+        }
+    }
+}
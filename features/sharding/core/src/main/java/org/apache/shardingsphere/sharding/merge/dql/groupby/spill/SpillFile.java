@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.exception.data.MergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file, holds rows which exceed memory limitation in local temporary file.
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path path;
+    
+    private final int columnCount;
+    
+    @Getter
+    private int rowCount;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private int readRowCount;
+    
+    public SpillFile(final int columnCount) {
+        this.columnCount = columnCount;
+        try {
+            path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            throw new MergeSpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row values
+     * @throws MergeSpillException merge spill exception
+     */
+    public void write(final Object[] row) {
+        try {
+            SpillRowCodec.write(output, row);
+        } catch (final IOException ex) {
+            throw new MergeSpillException(ex.getMessage());
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Judge whether has next row to read.
+     *
+     * @return has next row or not
+     */
+    public boolean hasNext() {
+        return readRowCount < rowCount;
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return row values
+     * @throws MergeSpillException merge spill exception
+     */
+    public Object[] next() {
+        try {
+            if (null == input) {
+                openInput();
+            }
+            Object[] result = SpillRowCodec.read(input, columnCount);
+            readRowCount++;
+            return result;
+        } catch (final IOException ex) {
+            throw new MergeSpillException(ex.getMessage());
+        }
+    }
+    
+    private void openInput() throws IOException {
+        output.close();
+        output = null;
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+            }
+            if (null != input) {
+                input.close();
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            throw new MergeSpillException(ex.getMessage());
+        }
+    }
+}
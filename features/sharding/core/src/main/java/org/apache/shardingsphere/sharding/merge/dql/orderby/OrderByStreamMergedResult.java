@@ -26,58 +26,80 @@ import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResu
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
+ *
+ * <p>When fetch row count is reached, the other query results are closed at once because none of their rows can be fetched any more.</p>
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
+    private final List<QueryResult> queryResults;
+    
     private final Collection<OrderByItem> orderByItems;
     
+    private final long fetchRowCount;
+    
+    private long fetchedRowCount;
+    
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValues;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResults, selectStatementContext, schema, Long.MAX_VALUE);
+    }
+    
+    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final long fetchRowCount) throws SQLException {
+        this.queryResults = queryResults;
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults, selectStatementContext, schema);
+        this.fetchRowCount = fetchRowCount;
+        orderByValues = new OrderByValueLoserTree(getOrderByValues(queryResults, selectStatementContext, schema));
+        setCurrentQueryResult(orderByValues.isEmpty() ? queryResults.get(0) : orderByValues.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    private List<OrderByValue> getOrderByValues(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
             if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
+                result.add(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValues.isEmpty() || fetchedRowCount >= fetchRowCount) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
-            return true;
-        }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
+        } else {
+            if (!orderByValues.next()) {
+                return false;
+            }
+            setCurrentQueryResult(orderByValues.peek().getQueryResult());
         }
-        if (orderByValuesQueue.isEmpty()) {
-            return false;
+        if (++fetchedRowCount == fetchRowCount) {
+            closeOtherQueryResults();
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
         return true;
     }
+    
+    private void closeOtherQueryResults() throws SQLException {
+        for (QueryResult each : queryResults) {
+            if (each != getCurrentQueryResult()) {
+                each.close();
+            }
+        }
+    }
 }
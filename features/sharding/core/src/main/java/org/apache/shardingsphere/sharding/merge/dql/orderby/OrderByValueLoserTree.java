@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Internal nodes keep the loser of the match between their sub trees and node 0 keeps the overall winner,
+ * so advancing the winner only replays the matches on the path from its leaf to the root, which costs log(k) comparisons.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        tree = new int[Math.max(this.orderByValues.length, 1)];
+        build();
+    }
+    
+    private void build() {
+        int leafCount = orderByValues.length;
+        if (leafCount <= 1) {
+            return;
+        }
+        int[] winners = new int[leafCount];
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = getWinner(winners, node << 1);
+            int right = getWinner(winners, (node << 1) + 1);
+            if (isLess(right, left)) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = winners[1];
+    }
+    
+    private int getWinner(final int[] winners, final int node) {
+        return node >= orderByValues.length ? node - orderByValues.length : winners[node];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get order by value of current winner.
+     *
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Move current winner to its next row and replay matches to elect new winner.
+     *
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = tree[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        adjust(winner);
+        return !isEmpty();
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (!isLess(winner, tree[node])) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isLess(final int left, final int right) {
+        if (exhausted[left]) {
+            return false;
+        }
+        if (exhausted[right]) {
+            return true;
+        }
+        return orderByValues[left].compareTo(orderByValues[right]) < 0;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.exception.algorithm.keygen.SnowflakeClockMoveBackException;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LockFreeSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = 22L;
+    
+    @AfterEach
+    void tearDown() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    void assertGenerateKeysInSameMillisecond() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new MutableTimeService(SnowflakeKeyGenerateAlgorithm.EPOCH + 1L));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE");
+        assertThat(algorithm.generateKey(), is(4194304L));
+        assertThat(algorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L, 4194307L)));
+        assertThat(algorithm.generateKey(), is(4194308L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithVibrationInDifferentMilliseconds() {
+        MutableTimeService timeService = new MutableTimeService(SnowflakeKeyGenerateAlgorithm.EPOCH + 1L);
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE", PropertiesBuilder.build(new Property("max-vibration-offset", "3")));
+        assertThat(algorithm.generateKey(), is(1L << TIMESTAMP_LEFT_SHIFT_BITS));
+        timeService.current++;
+        assertThat(algorithm.generateKey(), is((2L << TIMESTAMP_LEFT_SHIFT_BITS) + 1L));
+        timeService.current++;
+        assertThat(algorithm.generateKey(), is((3L << TIMESTAMP_LEFT_SHIFT_BITS) + 2L));
+    }
+    
+    @Test
+    void assertGenerateKeysBorrowingSequenceOfNextMillisecond() {
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(new MutableTimeService(SnowflakeKeyGenerateAlgorithm.EPOCH + 1L));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE");
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(4097));
+        assertThat(actual.get(4095), is((1L << TIMESTAMP_LEFT_SHIFT_BITS) + 4095L));
+        assertThat(actual.get(4096), is(2L << TIMESTAMP_LEFT_SHIFT_BITS));
+    }
+    
+    @Test
+    void assertGenerateKeyWithClockMoveBackWithinTolerateTime() {
+        MutableTimeService timeService = new MutableTimeService(SnowflakeKeyGenerateAlgorithm.EPOCH + 5L);
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE");
+        assertThat(algorithm.generateKey(), is(5L << TIMESTAMP_LEFT_SHIFT_BITS));
+        timeService.current -= 3L;
+        assertThat(algorithm.generateKey(), is((5L << TIMESTAMP_LEFT_SHIFT_BITS) + 1L));
+    }
+    
+    @Test
+    void assertGenerateKeyWithClockMoveBackBeyondTolerateTime() {
+        MutableTimeService timeService = new MutableTimeService(SnowflakeKeyGenerateAlgorithm.EPOCH + 5L);
+        LockFreeSnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE",
+                PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "2")));
+        algorithm.generateKey();
+        timeService.current -= 2L;
+        assertThrows(SnowflakeClockMoveBackException.class, algorithm::generateKey);
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "LOCK_FREE_SNOWFLAKE");
+        int threadCount = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            Collection<Future<List<Long>>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> generateKeysAfterStarted(algorithm, startLatch)));
+            }
+            startLatch.countDown();
+            Set<Long> actual = new HashSet<>();
+            int expectedKeyCount = 0;
+            for (Future<List<Long>> each : futures) {
+                List<Long> keys = each.get();
+                for (int i = 1; i < keys.size(); i++) {
+                    assertTrue(keys.get(i) > keys.get(i - 1));
+                }
+                actual.addAll(keys);
+                expectedKeyCount += keys.size();
+            }
+            assertThat(actual.size(), is(expectedKeyCount));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private List<Long> generateKeysAfterStarted(final KeyGenerateAlgorithm algorithm, final CountDownLatch startLatch) throws InterruptedException {
+        startLatch.await();
+        List<Long> result = new ArrayList<>(20000);
+        for (int i = 0; i < 1000; i++) {
+            if (0 == i % 2) {
+                result.add((Long) algorithm.generateKey());
+            } else {
+                algorithm.generateKeys(i % 32).forEach(each -> result.add((Long) each));
+            }
+        }
+        return result;
+    }
+    
+    private static final class MutableTimeService extends TimeService {
+        
+        private volatile long current;
+        
+        MutableTimeService(final long current) {
+            this.current = current;
+        }
+        
+        @Override
+        public long getCurrentMillis() {
+            return current;
+        }
+    }
+}
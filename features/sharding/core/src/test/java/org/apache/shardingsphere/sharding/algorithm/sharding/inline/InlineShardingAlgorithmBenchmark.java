@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for inline sharding algorithm.
+ * 
+ * <p>
+ * Shards 10k rows of a batch insert with compiled inline expression and with Groovy closure which is created for each row.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InlineShardingAlgorithmBenchmark {
+    
+    private static final int ROW_COUNT = 10000;
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${Math.abs(order_id.hashCode()) % 16}"})
+    private String algorithmExpression;
+    
+    private final Collection<String> availableTargetNames = new ArrayList<>(16);
+    
+    private final List<PreciseShardingValue<Comparable<?>>> shardingValues = new ArrayList<>(ROW_COUNT);
+    
+    private InlineShardingAlgorithm shardingAlgorithm;
+    
+    /**
+     * Set up sharding algorithm and sharding values.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 16; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        for (long i = 0L; i < ROW_COUNT; i++) {
+            shardingValues.add(new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, i * 7919L));
+        }
+        shardingAlgorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", PropertiesBuilder.build(new Property("algorithm-expression", algorithmExpression)));
+    }
+    
+    /**
+     * Shard rows with compiled inline expression.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void doShardingWithCompiledExpression(final Blackhole blackhole) {
+        for (PreciseShardingValue<Comparable<?>> each : shardingValues) {
+            blackhole.consume(shardingAlgorithm.doSharding(availableTargetNames, each));
+        }
+    }
+    
+    /**
+     * Shard rows with Groovy closure.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void doShardingWithGroovyClosure(final Blackhole blackhole) {
+        for (PreciseShardingValue<Comparable<?>> each : shardingValues) {
+            Closure<?> closure = new InlineExpressionParser().evaluateClosure(algorithmExpression).rehydrate(new Expando(), null, null);
+            closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+            closure.setProperty(each.getColumnName(), each.getValue());
+            blackhole.consume(closure.call().toString());
+        }
+    }
+}
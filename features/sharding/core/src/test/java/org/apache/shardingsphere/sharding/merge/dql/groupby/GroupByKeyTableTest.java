@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByKeyTableTest {
+    
+    @Test
+    void assertFindAndAdd() {
+        GroupByKeyTable keyTable = new GroupByKeyTable(8);
+        for (int i = 0; i < 100; i++) {
+            Object[] values = {i, "foo_" + i};
+            assertThat(keyTable.find(values, GroupByKeyTable.hash(values)), is(-1));
+            assertThat(keyTable.add(values, GroupByKeyTable.hash(values)), is(i));
+        }
+        assertThat(keyTable.getSize(), is(100));
+        for (int i = 0; i < 100; i++) {
+            Object[] values = {i, "foo_" + i};
+            assertThat(keyTable.find(values, GroupByKeyTable.hash(values)), is(i));
+        }
+    }
+    
+    @Test
+    void assertFindWithNullValue() {
+        GroupByKeyTable keyTable = new GroupByKeyTable(8);
+        Object[] values = {null, 1};
+        keyTable.add(values, GroupByKeyTable.hash(values));
+        assertThat(keyTable.find(new Object[]{null, 1}, GroupByKeyTable.hash(new Object[]{null, 1})), is(0));
+        assertThat(keyTable.find(new Object[]{null, 2}, GroupByKeyTable.hash(new Object[]{null, 2})), is(-1));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccumulationColumnarAggregationUnitTest {
+    
+    @Test
+    void assertAccumulationAggregation() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(null, 10, 20, 5);
+        AccumulationColumnarAggregationUnit aggregationUnit = new AccumulationColumnarAggregationUnit(1);
+        aggregationUnit.merge(0, queryResult);
+        aggregationUnit.merge(1, queryResult);
+        aggregationUnit.merge(1, queryResult);
+        aggregationUnit.merge(2, queryResult);
+        assertNull(aggregationUnit.getResult(0));
+        assertThat(aggregationUnit.getResult(1), is(new BigDecimal("30")));
+        assertThat(aggregationUnit.getResult(2), is(new BigDecimal("5")));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AverageColumnarAggregationUnitTest {
+    
+    @Test
+    void assertAvgAggregation() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 10, 10, 5);
+        when(queryResult.getValue(2, Object.class)).thenReturn(null, 50, 20, 40);
+        AverageColumnarAggregationUnit aggregationUnit = new AverageColumnarAggregationUnit(1, 2);
+        for (int i = 0; i < 4; i++) {
+            aggregationUnit.merge(0, queryResult);
+        }
+        assertThat(aggregationUnit.getResult(0), is(new BigDecimal("4.4000")));
+    }
+    
+    @Test
+    void assertDivideZero() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(0);
+        when(queryResult.getValue(2, Object.class)).thenReturn(50, 20);
+        AverageColumnarAggregationUnit aggregationUnit = new AverageColumnarAggregationUnit(1, 2);
+        aggregationUnit.merge(0, queryResult);
+        aggregationUnit.merge(0, queryResult);
+        assertThat(aggregationUnit.getResult(0), is(new BigDecimal(0)));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ColumnarAccumulatorTest {
+    
+    @Test
+    void assertAddIntegralValues() {
+        ColumnarAccumulator accumulator = new ColumnarAccumulator();
+        accumulator.add(0, 1);
+        accumulator.add(0, 2L);
+        accumulator.add(200, (short) 3);
+        assertThat(accumulator.get(0), is(new BigDecimal("3")));
+        assertNull(accumulator.get(1));
+        assertThat(accumulator.get(200), is(new BigDecimal("3")));
+        assertNull(accumulator.get(1000));
+    }
+    
+    @Test
+    void assertAddMixedValues() {
+        ColumnarAccumulator accumulator = new ColumnarAccumulator();
+        accumulator.add(0, 1);
+        accumulator.add(0, new BigDecimal("1.50"));
+        accumulator.add(0, 2.5D);
+        assertThat(accumulator.get(0), is(new BigDecimal("5.00")));
+    }
+    
+    @Test
+    void assertAddWithOverflow() {
+        ColumnarAccumulator accumulator = new ColumnarAccumulator();
+        accumulator.add(0, Long.MAX_VALUE);
+        accumulator.add(0, Long.MAX_VALUE);
+        accumulator.add(0, 1);
+        assertThat(accumulator.get(0), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2L)).add(BigDecimal.ONE)));
+    }
+}
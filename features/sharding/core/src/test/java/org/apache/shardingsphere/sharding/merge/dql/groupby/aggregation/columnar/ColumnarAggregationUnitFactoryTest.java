@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.columnar;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ColumnarAggregationUnitFactoryTest {
+    
+    @Test
+    void assertCreateComparableColumnarAggregationUnit() {
+        assertThat(ColumnarAggregationUnitFactory.create(createAggregationProjection(AggregationType.MIN)), instanceOf(ComparableColumnarAggregationUnit.class));
+        assertThat(ColumnarAggregationUnitFactory.create(createAggregationProjection(AggregationType.MAX)), instanceOf(ComparableColumnarAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAccumulationColumnarAggregationUnit() {
+        assertThat(ColumnarAggregationUnitFactory.create(createAggregationProjection(AggregationType.SUM)), instanceOf(AccumulationColumnarAggregationUnit.class));
+        assertThat(ColumnarAggregationUnitFactory.create(createAggregationProjection(AggregationType.COUNT)), instanceOf(AccumulationColumnarAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAverageColumnarAggregationUnit() {
+        AggregationProjection aggregationProjection = createAggregationProjection(AggregationType.AVG);
+        aggregationProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT));
+        aggregationProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM));
+        assertThat(ColumnarAggregationUnitFactory.create(aggregationProjection), instanceOf(AverageColumnarAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateDelegateColumnarAggregationUnit() {
+        assertThat(ColumnarAggregationUnitFactory.create(createAggregationProjection(AggregationType.BIT_XOR)), instanceOf(DelegateColumnarAggregationUnit.class));
+        assertThat(ColumnarAggregationUnitFactory.create(
+                new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", "c", "order_id", mock(DatabaseType.class))),
+                instanceOf(DelegateColumnarAggregationUnit.class));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type) {
+        return new AggregationProjection(type, "(order_id)", null, mock(DatabaseType.class));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalRowSorterTest {
+    
+    @Test
+    void assertSortWithinMemory() {
+        try (ExternalRowSorter sorter = createSorter(10)) {
+            assertSort(sorter);
+        }
+    }
+    
+    @Test
+    void assertSortWithSpilledRuns() {
+        try (ExternalRowSorter sorter = createSorter(2)) {
+            assertSort(sorter);
+        }
+    }
+    
+    @Test
+    void assertSortWithMultiplePassMerge() {
+        try (ExternalRowSorter sorter = createSorter(1)) {
+            for (int i = 200; i > 0; i--) {
+                sorter.add(new MemoryQueryResultRow(new Object[]{i, "value_" + i}));
+            }
+            sorter.sort();
+            for (int i = 1; i <= 200; i++) {
+                assertTrue(sorter.next());
+                assertThat(sorter.getCurrentRow().getCell(1), is(i));
+            }
+            assertFalse(sorter.next());
+        }
+    }
+    
+    @Test
+    void assertSortAfterSpill() {
+        try (ExternalRowSorter sorter = createSorter(10)) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{4, "value_4"}));
+            sorter.add(new MemoryQueryResultRow(new Object[]{6, "value_6"}));
+            sorter.spill();
+            sorter.spill();
+            sorter.add(new MemoryQueryResultRow(new Object[]{5, "value_5"}));
+            sorter.add(new MemoryQueryResultRow(new Object[]{3, "value_3"}));
+            sorter.sort();
+            for (int each : new int[]{3, 4, 5, 6}) {
+                assertTrue(sorter.next());
+                assertThat(sorter.getCurrentRow().getCell(1), is(each));
+            }
+            assertFalse(sorter.next());
+        }
+    }
+    
+    @Test
+    void assertCloseBeforeDrained() throws IOException {
+        long originalSpillFileCount = countSpillFiles();
+        ExternalRowSorter sorter = createSorter(2);
+        for (int i = 0; i < 10; i++) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{i, "value_" + i}));
+        }
+        sorter.sort();
+        assertTrue(sorter.next());
+        assertTrue(countSpillFiles() > originalSpillFileCount);
+        sorter.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+        assertFalse(sorter.next());
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-merge-")).count();
+        }
+    }
+    
+    private ExternalRowSorter createSorter(final int maxMemoryRows) {
+        return new ExternalRowSorter(Comparator.comparing(each -> (Integer) each.getCell(1)), maxMemoryRows, 2);
+    }
+    
+    private void assertSort(final ExternalRowSorter sorter) {
+        for (int each : new int[]{5, 3, 9, 1, 7, 2, 8}) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{each, "value_" + each}));
+        }
+        sorter.sort();
+        for (int each : new int[]{1, 2, 3, 5, 7, 8, 9}) {
+            assertTrue(sorter.next());
+            assertThat(sorter.getCurrentRow().getCell(1), is(each));
+            assertThat(sorter.getCurrentRow().getCell(2), is("value_" + each));
+        }
+        assertFalse(sorter.next());
+    }
+}
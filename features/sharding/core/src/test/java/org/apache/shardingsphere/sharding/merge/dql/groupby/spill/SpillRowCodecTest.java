@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigDecimal("-7.70"), new BigInteger("8"), "foo_中文", new byte[]{9, 10},
+                new Date(11L), new Time(12L), timestamp, LocalDate.of(2023, 1, 1), LocalTime.of(1, 2, 3, 4), LocalDateTime.of(2023, 1, 1, 1, 2, 3, 4), new UUID(1L, 2L)};
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(byteArrayOutputStream)) {
+            SpillRowCodec.write(output, expected);
+        }
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+    }
+}
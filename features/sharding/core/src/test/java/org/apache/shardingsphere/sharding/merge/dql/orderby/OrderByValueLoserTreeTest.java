@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertIsEmptyWithoutOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithAscendingOrder() throws SQLException {
+        OrderByValueLoserTree actual = createLoserTree(OrderDirection.ASC, new int[]{1, 4, 9}, new int[]{2, 2, 7}, new int[]{3}, new int[]{0, 5, 6, 8, 10});
+        assertThat(getOrderedValues(actual), is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    @Test
+    void assertNextWithDescendingOrder() throws SQLException {
+        OrderByValueLoserTree actual = createLoserTree(OrderDirection.DESC, new int[]{9, 4}, new int[]{8, 7, 1}, new int[]{6, 5, 3}, new int[]{2}, new int[]{9, 0});
+        assertThat(getOrderedValues(actual), is(Arrays.asList(9, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0)));
+    }
+    
+    private List<Integer> getOrderedValues(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        if (loserTree.isEmpty()) {
+            return result;
+        }
+        do {
+            result.add((Integer) loserTree.peek().getQueryResult().getValue(1, Object.class));
+        } while (loserTree.next());
+        return result;
+    }
+    
+    private OrderByValueLoserTree createLoserTree(final OrderDirection orderDirection, final int[]... shardValues) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(orderByItem);
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        List<OrderByValue> orderByValues = new ArrayList<>(shardValues.length);
+        for (int[] each : shardValues) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(each), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+            assertTrue(orderByValue.next());
+            orderByValues.add(orderByValue);
+        }
+        return new OrderByValueLoserTree(orderByValues);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)), mock(ShardingSphereRuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private QueryResult createQueryResult(final int... values) {
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(Collections.singletonList(new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INTEGER", 11, 0)));
+        return new RawMemoryQueryResult(metaData, Arrays.stream(values).mapToObj(each -> new MemoryQueryResultDataRow(Collections.singletonList(each))).collect(Collectors.toList()));
+    }
+}
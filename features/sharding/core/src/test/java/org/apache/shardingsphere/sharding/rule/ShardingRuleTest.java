@@ -386,6 +386,13 @@ class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(String.class));
     }
     
+    @Test
+    void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(new LinkedHashSet<>(actual).size(), is(3));
+    }
+    
     @Test
     void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
@@ -191,6 +191,18 @@ COUNT
     : C O U N T
     ;
 
+ROUTE
+    : R O U T E
+    ;
+
+CACHE
+    : C A C H E
+    ;
+
+STATUS
+    : S T A T U S
+    ;
+
 AUDITOR
     : A U D I T O R
     ;
@@ -88,7 +88,7 @@ shardingTableRule
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorDefinition
@@ -96,7 +96,7 @@ auditorDefinition
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 storageUnits
@@ -104,7 +104,7 @@ storageUnits
     ;
 
 storageUnit
-    : IDENTIFIER_ | STRING_
+    : identifier | STRING_
     ;
 
 dataNodes
@@ -168,7 +168,7 @@ auditAllowHintDisable
     ;
 
 columnName
-    : IDENTIFIER_
+    : identifier
     ;
 
 tableReferenceRuleDefinition
@@ -49,5 +49,6 @@ execute
     | showUnusedShardingKeyGenerators
     | showUnusedShardingAuditors
     | countShardingRule
+    | showShardingRouteCacheStatus
     ) SEMI?
     ;
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.distsql.handler.query;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.distsql.handler.query.RQLExecutor;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
+import org.apache.shardingsphere.sharding.distsql.parser.statement.ShowShardingRouteCacheStatusStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Result set for show sharding route cache status.
+ */
+public final class ShowShardingRouteCacheStatusExecutor implements RQLExecutor<ShowShardingRouteCacheStatusStatement> {
+    
+    @Override
+    public Collection<LocalDataQueryResultRow> getRows(final ShardingSphereDatabase database, final ShowShardingRouteCacheStatusStatement sqlStatement) {
+        Optional<ShardingCacheRule> rule = database.getRuleMetaData().findSingleRule(ShardingCacheRule.class);
+        if (!rule.isPresent()) {
+            return Collections.emptyList();
+        }
+        ShardingRouteCache routeCache = rule.get().getRouteCache();
+        CacheStats stats = routeCache.getStats();
+        return Collections.singleton(new LocalDataQueryResultRow(routeCache.getEstimatedSize(), routeCache.getWeightedSize(), routeCache.getMaximumWeight(),
+                stats.hitCount(), stats.missCount(), String.format("%.4f", stats.hitRate()), stats.evictionCount(), stats.evictionWeight()));
+    }
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("cached_routes", "weighted_size", "maximum_weight", "hit_count", "miss_count", "hit_rate", "eviction_count", "eviction_weight");
+    }
+    
+    @Override
+    public String getType() {
+        return ShowShardingRouteCacheStatusStatement.class.getName();
+    }
+}
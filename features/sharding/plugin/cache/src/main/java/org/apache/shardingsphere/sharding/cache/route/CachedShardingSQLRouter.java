@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheVa
 import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,6 +50,9 @@ public final class CachedShardingSQLRouter implements SQLRouter<ShardingCacheRul
         }
         ShardingRouteCacheableCheckResult cacheableCheckResult = rule.getRouteCacheableChecker().check(database, queryContext);
         if (!cacheableCheckResult.isProbablyCacheable()) {
+            if (queryContext.getSqlStatementContext().getSqlStatement() instanceof DDLStatement) {
+                rule.getRouteCache().invalidateAll();
+            }
             return new RouteContext();
         }
         List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
@@ -62,17 +66,12 @@ public final class CachedShardingSQLRouter implements SQLRouter<ShardingCacheRul
                 .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedRouteContext.orElseGet(
                 () -> new ShardingSQLRouter().createRouteContext(queryContext, globalRuleMetaData, database, rule.getShardingRule(), props, connectionContext));
-        if (!cachedRouteContext.isPresent() && hitOneShardOnly(result)) {
+        if (!cachedRouteContext.isPresent() && !result.getRouteUnits().isEmpty()) {
             rule.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
         }
         return result;
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
-        return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
-                && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
-    }
-    
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingCacheRule rule,
                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
@@ -19,12 +19,16 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
 
 import java.util.Optional;
 
 /**
  * Cache for sharding route.
+ * 
+ * <p>Cached route results are weighted by count of their route units' table mappers, maximum size of cache options limits total weight of cached route results.</p>
  */
 public final class ShardingRouteCache {
     
@@ -35,7 +39,8 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptions cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<ShardingRouteCacheKey, ShardingRouteCacheValue> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumWeight(cacheOptions.getMaximumSize())
+                .weigher((ShardingRouteCacheKey key, ShardingRouteCacheValue value) -> value.getWeight()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +66,47 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Invalidate all cached route results.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Get statistics of cache.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get estimated count of cached route results.
+     *
+     * @return estimated count of cached route results
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+    
+    /**
+     * Get total weight of cached route results.
+     *
+     * @return total weight of cached route results
+     */
+    public long getWeightedSize() {
+        return cache.policy().eviction().map(optional -> optional.weightedSize().orElse(0L)).orElse(0L);
+    }
+    
+    /**
+     * Get maximum total weight of cached route results.
+     *
+     * @return maximum total weight of cached route results
+     */
+    public long getMaximumWeight() {
+        return cache.policy().eviction().map(Eviction::getMaximum).orElse(0L);
+    }
 }
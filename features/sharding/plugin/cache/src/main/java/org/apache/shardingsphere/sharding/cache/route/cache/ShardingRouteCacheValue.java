@@ -44,6 +44,22 @@ public final class ShardingRouteCacheValue {
         this(null != routeContext, routeContext);
     }
     
+    /**
+     * Get weight of cached route context.
+     *
+     * @return count of table mappers of all route units, and 1 at least
+     */
+    public int getWeight() {
+        if (!cacheable) {
+            return 1;
+        }
+        int result = 0;
+        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+            result += each.getTableMappers().size();
+        }
+        return Math.max(result, 1);
+    }
+    
     /**
      * Get cached route context.
      *
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.distsql.handler.query;
+
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
+import org.apache.shardingsphere.sharding.distsql.parser.statement.ShowShardingRouteCacheStatusStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowShardingRouteCacheStatusExecutorTest {
+    
+    @Test
+    void assertGetRowsWithoutShardingCacheRule() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().findSingleRule(ShardingCacheRule.class)).thenReturn(Optional.empty());
+        assertTrue(new ShowShardingRouteCacheStatusExecutor().getRows(database, mock(ShowShardingRouteCacheStatusStatement.class)).isEmpty());
+    }
+    
+    @Test
+    void assertGetRows() {
+        ShardingRouteCache routeCache = new ShardingRouteCache(new ShardingCacheOptions(false, 1, 16));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        routeCache.get(key);
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        routeCache.put(key, new ShardingRouteCacheValue(routeContext));
+        routeCache.get(key);
+        ShardingCacheRule rule = mock(ShardingCacheRule.class);
+        when(rule.getRouteCache()).thenReturn(routeCache);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().findSingleRule(ShardingCacheRule.class)).thenReturn(Optional.of(rule));
+        Collection<LocalDataQueryResultRow> actual = new ShowShardingRouteCacheStatusExecutor().getRows(database, mock(ShowShardingRouteCacheStatusStatement.class));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(3), is(16L));
+        assertThat(row.getCell(4), is(1L));
+        assertThat(row.getCell(5), is(1L));
+        assertThat(row.getCell(6), is("0.5000"));
+        assertThat(row.getCell(7), is(0L));
+    }
+    
+    @Test
+    void assertGetColumnNames() {
+        assertThat(new ShowShardingRouteCacheStatusExecutor().getColumnNames().size(), is(8));
+    }
+}
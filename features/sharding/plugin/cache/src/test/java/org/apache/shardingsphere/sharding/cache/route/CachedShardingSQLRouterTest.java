@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache.route;
 
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKe
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.cache.rule.ShardingCacheRule;
 import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +49,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.never;
@@ -70,7 +73,7 @@ class CachedShardingSQLRouterTest {
     
     @Test
     void assertCreateRouteContextWithNotCacheableQuery() {
-        QueryContext queryContext = new QueryContext(null, "insert into t values (?), (?)", Collections.emptyList());
+        QueryContext queryContext = new QueryContext(mock(SQLStatementContext.class, RETURNS_DEEP_STUBS), "insert into t values (?), (?)", Collections.emptyList());
         when(shardingCacheRule.getConfiguration()).thenReturn(new ShardingCacheRuleConfiguration(100, null));
         when(shardingCacheRule.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCacheRule.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(false, Collections.emptyList()));
@@ -152,9 +155,41 @@ class CachedShardingSQLRouterTest {
             actual = new CachedShardingSQLRouter().createRouteContext(queryContext, globalRuleMetaData, null, shardingCacheRule, null, null);
         }
         assertThat(actual, is(expected));
+        verify(shardingCacheRule.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+    }
+    
+    @Test
+    void assertCreateRouteContextWithQueryRoutedToNoDataNode() {
+        QueryContext queryContext = new QueryContext(null, "select * from t where id = ?", Collections.singletonList(1));
+        when(shardingCacheRule.getConfiguration()).thenReturn(new ShardingCacheRuleConfiguration(100, null));
+        when(shardingCacheRule.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCacheRule.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.singletonList(0)));
+        when(shardingCacheRule.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
+        RouteContext actual;
+        try (
+                MockedConstruction<ShardingSQLRouter> ignored = mockConstruction(ShardingSQLRouter.class,
+                        (mock, context) -> when(mock.createRouteContext(queryContext, globalRuleMetaData, null, shardingCacheRule.getShardingRule(), null, null)).thenReturn(new RouteContext()))) {
+            actual = new CachedShardingSQLRouter().createRouteContext(queryContext, globalRuleMetaData, null, shardingCacheRule, null, null);
+        }
+        assertRouteContextIsEmpty(actual);
         verify(shardingCacheRule.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
     }
     
+    @Test
+    void assertCreateRouteContextWithDDLStatement() {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(CreateTableStatement.class));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "create table t (id int)", Collections.emptyList());
+        when(shardingCacheRule.getConfiguration()).thenReturn(new ShardingCacheRuleConfiguration(100, null));
+        when(shardingCacheRule.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCacheRule.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(false, Collections.emptyList()));
+        when(shardingCacheRule.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        RouteContext actual = new CachedShardingSQLRouter().createRouteContext(queryContext, mock(ShardingSphereRuleMetaData.class), null, shardingCacheRule, null, null);
+        assertRouteContextIsEmpty(actual);
+        verify(shardingCacheRule.getRouteCache()).invalidateAll();
+    }
+    
     @Test
     void assertDecorateRouteContext() {
         RouteContext routeContext = mock(RouteContext.class);
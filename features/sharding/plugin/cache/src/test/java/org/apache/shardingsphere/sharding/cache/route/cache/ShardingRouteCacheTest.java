@@ -17,12 +17,19 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +43,43 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertEvictByWeight() throws ReflectiveOperationException {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(false, 1, 3));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id in (?, ?, ?, ?)", Arrays.asList(1, 2, 3, 4));
+        cache.put(key, new ShardingRouteCacheValue(createRouteContext(4)));
+        cleanUp(cache);
+        assertFalse(cache.get(key).isPresent());
+        assertThat(cache.getStats().evictionCount(), is(1L));
+        assertThat(cache.getMaximumWeight(), is(3L));
+    }
+    
+    @Test
+    void assertGetStats() throws ReflectiveOperationException {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(false, 1, 8));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id in (?, ?)", Arrays.asList(1, 2));
+        assertFalse(cache.get(key).isPresent());
+        cache.put(key, new ShardingRouteCacheValue(createRouteContext(2)));
+        assertTrue(cache.get(key).isPresent());
+        cleanUp(cache);
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+        assertThat(cache.getEstimatedSize(), is(1L));
+        assertThat(cache.getWeightedSize(), is(2L));
+        cache.invalidateAll();
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    private void cleanUp(final ShardingRouteCache cache) throws ReflectiveOperationException {
+        ((Cache<?, ?>) Plugins.getMemberAccessor().get(ShardingRouteCache.class.getDeclaredField("cache"), cache)).cleanUp();
+    }
+    
+    private RouteContext createRouteContext(final int shardCount) {
+        RouteContext result = new RouteContext();
+        for (int i = 0; i < shardCount; i++) {
+            result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_" + i, "ds_" + i), Collections.singletonList(new RouteMapper("t", "t_" + i))));
+        }
+        return result;
+    }
 }
@@ -101,6 +101,19 @@ public final class PaginationContext {
         return Optional.of(rowCountSegment.isBoundOpened() ? actualRowCount + 1L : actualRowCount);
     }
     
+    /**
+     * Get fetch row count, which is the max count of merged rows consumed by pagination.
+     *
+     * @return fetch row count
+     */
+    public Optional<Long> getFetchRowCount() {
+        Optional<Long> actualRowCount = getActualRowCount();
+        if (!actualRowCount.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(rowCountSegment instanceof LimitValueSegment ? getActualOffset() + actualRowCount.get() : actualRowCount.get());
+    }
+    
     /**
      * Get offset parameter index.
      *
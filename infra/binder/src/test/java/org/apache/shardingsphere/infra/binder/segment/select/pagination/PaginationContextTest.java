@@ -47,6 +47,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -111,6 +112,16 @@ class PaginationContextTest {
         return new NumberLiteralLimitValueSegment(32, 34, 20);
     }
     
+    @Test
+    void assertGetFetchRowCount() {
+        assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getFetchRowCount().orElse(null), is(50L));
+    }
+    
+    @Test
+    void assertGetFetchRowCountWithNullRowCountSegment() {
+        assertFalse(new PaginationContext(getOffsetSegment(), null, getParameters()).getFetchRowCount().isPresent());
+    }
+    
     @Test
     void assertGetOffsetParameterIndex() {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getOffsetParameterIndex().orElse(null), is(0));
@@ -52,6 +52,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL and proxy commands with virtual threads, which requires Java 21 or above.
+     */
+    KERNEL_VIRTUAL_THREAD_ENABLED("kernel-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,6 +67,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_META_DATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max rows of group by merge kept in memory for each query, rows exceed it will spill to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group-by-merge-max-memory-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max rows prefetched into buffer by dedicated fetch threads for each stream query result when merging results of multiple data nodes.
+     * Less than or equal to 0 means no prefetching.
+     */
+    STREAM_QUERY_RESULT_PREFETCH_ROWS("stream-query-result-prefetch-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max SQL count of execution plans cached for each database, execution plan keeps rewritten SQL of each route result for reusing.
+     * Only SQL rewrite is skipped, SQL is still routed on each execution.
+     * Less than or equal to 0 means no caching.
+     */
+    EXECUTION_PLAN_CACHE_MAX_SIZE("execution-plan-cache-max-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether pre-merge ORDER BY and LIMIT queries of tables in same data source with UNION ALL.
+     */
+    SORTED_QUERY_PRE_MERGE_ENABLED("sorted-query-pre-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max parameters of each multi-row INSERT statement coalesced from rows of batched single row INSERT statement routed to same data node.
+     * Less than or equal to 0 means no coalescing.
+     */
+    BATCH_INSERT_COALESCING_MAX_PARAMETERS("batch-insert-coalescing-max-parameters", String.valueOf(0), int.class, false),
+    
     /**
      * SQL federation type.
      */
@@ -88,6 +123,19 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Proxy backend prepared statement cache size of each backend connection.
+     * Prepared statements are only cached in auto commit mode, statements executed inside transactions are always prepared and closed per execution.
+     * The default value is 0, which means prepared statements will not be cached.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Proxy backend connection reservation timeout milliseconds of memory strictly queries.
+     * Fewer connections will be used if timed out. The default value is 0, which means waiting until connections reserved.
+     */
+    PROXY_BACKEND_CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS("proxy-backend-connection-reservation-timeout-milliseconds", String.valueOf(0L), long.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.capacity.type;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.datasource.pool.capacity.DataSourcePoolCapacityDetector;
+
+import javax.sql.DataSource;
+
+/**
+ * Hikari data source pool capacity detector.
+ */
+public final class HikariDataSourcePoolCapacityDetector implements DataSourcePoolCapacityDetector {
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public int getAvailableConnections(final DataSource dataSource) {
+        int maximumPoolSize = (int) dataSource.getClass().getMethod("getMaximumPoolSize").invoke(dataSource);
+        Object hikariPoolMXBean = dataSource.getClass().getMethod("getHikariPoolMXBean").invoke(dataSource);
+        if (null == hikariPoolMXBean) {
+            return maximumPoolSize;
+        }
+        int idleConnections = (int) hikariPoolMXBean.getClass().getMethod("getIdleConnections").invoke(hikariPoolMXBean);
+        int totalConnections = (int) hikariPoolMXBean.getClass().getMethod("getTotalConnections").invoke(hikariPoolMXBean);
+        return idleConnections + maximumPoolSize - totalConnections;
+    }
+    
+    @Override
+    public String getType() {
+        return "com.zaxxer.hikari.HikariDataSource";
+    }
+}
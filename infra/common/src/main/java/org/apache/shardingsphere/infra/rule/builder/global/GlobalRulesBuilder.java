@@ -21,6 +21,8 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPILoader;
@@ -56,6 +58,26 @@ public final class GlobalRulesBuilder {
         return result;
     }
     
+    /**
+     * Build rules and set instance context to instance context aware rules.
+     *
+     * @param globalRuleConfigs global rule configurations
+     * @param databases databases
+     * @param props props
+     * @param instanceContext instance context
+     * @return built rules
+     */
+    public static Collection<ShardingSphereRule> buildRules(final Collection<RuleConfiguration> globalRuleConfigs, final Map<String, ShardingSphereDatabase> databases,
+                                                            final ConfigurationProperties props, final InstanceContext instanceContext) {
+        Collection<ShardingSphereRule> result = buildRules(globalRuleConfigs, databases, props);
+        for (ShardingSphereRule each : result) {
+            if (each instanceof InstanceContextAware) {
+                ((InstanceContextAware) each).setInstanceContext(instanceContext);
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings("rawtypes")
     private static Map<RuleConfiguration, GlobalRuleBuilder> getRuleBuilderMap(final Collection<RuleConfiguration> globalRuleConfigs) {
         Map<RuleConfiguration, GlobalRuleBuilder> result = new LinkedHashMap<>();
@@ -37,13 +37,21 @@ class ConfigurationPropertiesTest {
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS), is(10000));
+        assertThat(actual.getValue(ConfigurationPropertyKey.STREAM_QUERY_RESULT_PREFETCH_ROWS), is(256));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAX_SIZE), is(1024));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.SORTED_QUERY_PRE_MERGE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_MAX_PARAMETERS), is(30000));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE), is(256));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS), is(3000L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
@@ -58,13 +66,21 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS.getKey(), "10000"),
+                new Property(ConfigurationPropertyKey.STREAM_QUERY_RESULT_PREFETCH_ROWS.getKey(), "256"),
+                new Property(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAX_SIZE.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.SORTED_QUERY_PRE_MERGE_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_MAX_PARAMETERS.getKey(), "30000"),
                 new Property(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "256"),
+                new Property(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS.getKey(), "3000"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION.getKey(), "5.7.22"),
@@ -80,13 +96,21 @@ class ConfigurationPropertiesTest {
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.STREAM_QUERY_RESULT_PREFETCH_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAX_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.SORTED_QUERY_PRE_MERGE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_MAX_PARAMETERS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS), is(0L));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION), is("5.7.22"));
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.capacity.type;
+
+import org.apache.shardingsphere.infra.datasource.pool.capacity.DataSourcePoolCapacityDetector;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DefaultDataSourcePoolCapacityDetectorTest {
+    
+    @Test
+    void assertGetAvailableConnections() {
+        assertThat(new DefaultDataSourcePoolCapacityDetector().getAvailableConnections(new MockedDataSource()), is(-1));
+    }
+    
+    @Test
+    void assertGetServiceForNonHikariDataSource() {
+        assertThat(TypedSPILoader.getService(DataSourcePoolCapacityDetector.class, MockedDataSource.class.getName()), instanceOf(DefaultDataSourcePoolCapacityDetector.class));
+    }
+}
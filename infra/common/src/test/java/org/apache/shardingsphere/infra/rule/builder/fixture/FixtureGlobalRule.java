@@ -17,12 +17,20 @@
 
 package org.apache.shardingsphere.infra.rule.builder.fixture;
 
+import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 
 import static org.mockito.Mockito.mock;
 
-public final class FixtureGlobalRule implements GlobalRule {
+@Getter
+@Setter
+public final class FixtureGlobalRule implements GlobalRule, InstanceContextAware {
+    
+    private InstanceContext instanceContext;
     
     @Override
     public RuleConfiguration getConfiguration() {
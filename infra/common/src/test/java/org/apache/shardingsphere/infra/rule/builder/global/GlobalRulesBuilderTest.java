@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rule.builder.global;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.fixture.FixtureGlobalRule;
@@ -49,6 +50,14 @@ class GlobalRulesBuilderTest {
         assertTrue(shardingSphereRules.toArray()[0] instanceof FixtureGlobalRule);
     }
     
+    @Test
+    void assertBuildRulesWithInstanceContext() {
+        InstanceContext instanceContext = mock(InstanceContext.class);
+        Collection<ShardingSphereRule> shardingSphereRules = GlobalRulesBuilder.buildRules(
+                Collections.singletonList(new FixtureGlobalRuleConfiguration()), Collections.singletonMap("logic_db", buildDatabase()), mock(ConfigurationProperties.class), instanceContext);
+        assertThat(((FixtureGlobalRule) shardingSphereRules.iterator().next()).getInstanceContext(), is(instanceContext));
+    }
+    
     private ShardingSphereDatabase buildDatabase() {
         return ShardingSphereDatabase.create("logic_db", new MySQLDatabaseType());
     }
@@ -21,15 +21,22 @@ import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheManager;
+import org.apache.shardingsphere.infra.context.kernel.plan.SQLRewritePlan;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+
+import java.util.Optional;
 
 /**
  * Kernel processor.
@@ -62,6 +69,30 @@ public final class KernelProcessor {
     
     private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                      final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
+        if (props.<Integer>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAX_SIZE) <= 0) {
+            return rewriteWithoutPlanCache(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        }
+        ExecutionPlanCache planCache = ExecutionPlanCacheManager.getCache(database, globalRuleMetaData, props);
+        if (queryContext.getSqlStatementContext().getSqlStatement() instanceof DDLStatement) {
+            planCache.invalidateAll();
+        }
+        if (!planCache.isCacheable(queryContext.getSqlStatementContext(), routeContext)) {
+            return rewriteWithoutPlanCache(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        }
+        Optional<SQLRewritePlan> cachedRewritePlan = planCache.findRewritePlan(queryContext.getSql(), routeContext);
+        if (cachedRewritePlan.isPresent()) {
+            return cachedRewritePlan.get().fill(queryContext.getParameters(), queryContext.getSqlStatementContext());
+        }
+        SQLRewriteResult result = rewriteWithoutPlanCache(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        if (result instanceof RouteSQLRewriteResult) {
+            SQLRewritePlan.newInstance((RouteSQLRewriteResult) result, queryContext.getParameters(), queryContext.getSqlStatementContext())
+                    .ifPresent(optional -> planCache.putRewritePlan(queryContext.getSql(), routeContext, optional));
+        }
+        return result;
+    }
+    
+    private SQLRewriteResult rewriteWithoutPlanCache(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
         return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
     }
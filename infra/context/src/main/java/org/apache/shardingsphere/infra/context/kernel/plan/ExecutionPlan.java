@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execution plan of SQL.
+ */
+public final class ExecutionPlan {
+    
+    private static final int MAX_REWRITE_PLAN_SIZE = 64;
+    
+    private final Map<List<RouteUnit>, SQLRewritePlan> rewritePlans = new ConcurrentHashMap<>();
+    
+    /**
+     * Find SQL rewrite plan.
+     * 
+     * @param routeContext route context
+     * @return found SQL rewrite plan
+     */
+    public Optional<SQLRewritePlan> findRewritePlan(final RouteContext routeContext) {
+        return Optional.ofNullable(rewritePlans.get(new ArrayList<>(routeContext.getRouteUnits())));
+    }
+    
+    /**
+     * Put SQL rewrite plan.
+     * 
+     * @param routeContext route context
+     * @param rewritePlan SQL rewrite plan
+     */
+    public void putRewritePlan(final RouteContext routeContext, final SQLRewritePlan rewritePlan) {
+        if (rewritePlans.size() < MAX_REWRITE_PLAN_SIZE) {
+            rewritePlans.put(new ArrayList<>(routeContext.getRouteUnits()), rewritePlan);
+        }
+    }
+}
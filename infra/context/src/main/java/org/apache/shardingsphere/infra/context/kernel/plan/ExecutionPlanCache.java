@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+
+import java.util.Optional;
+
+/**
+ * Execution plan cache of database.
+ * 
+ * <p>Execution plan only keeps SQL rewrite results, route context is created on each execution and is used for looking up rewrite result.
+ * Route results of sharding conditions are cached by sharding cache rule rather than execution plan.</p>
+ * 
+ * <p>Cached execution plans are bound to rule meta data, global rule meta data and properties which are used for creating them,
+ * new instance should be created once any of them changed. Execution plans are invalidated once table or view meta data changed.</p>
+ */
+public final class ExecutionPlanCache {
+    
+    private final ShardingSphereRuleMetaData ruleMetaData;
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Cache<String, ExecutionPlan> plans;
+    
+    public ExecutionPlanCache(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        ruleMetaData = database.getRuleMetaData();
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        plans = Caffeine.newBuilder().maximumSize(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAX_SIZE)).build();
+    }
+    
+    /**
+     * Judge whether execution plan cache is created by same rules and properties.
+     * 
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return is created by same rules and properties or not
+     */
+    public boolean isSameVersion(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        return ruleMetaData == database.getRuleMetaData() && this.globalRuleMetaData == globalRuleMetaData && this.props == props;
+    }
+    
+    /**
+     * Judge whether rewrite result of SQL statement is cacheable.
+     * 
+     * <p>Only DML statements which do not expand shorthand projections with current table meta data are cacheable.</p>
+     * 
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @return rewrite result is cacheable or not
+     */
+    public boolean isCacheable(final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        if (routeContext.getRouteUnits().isEmpty()) {
+            return false;
+        }
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            return !containsShorthandProjection((SelectStatementContext) sqlStatementContext);
+        }
+        return sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private boolean containsShorthandProjection(final SelectStatementContext selectStatementContext) {
+        if (selectStatementContext.getProjectionsContext().getProjections().stream().anyMatch(ShorthandProjection.class::isInstance)) {
+            return true;
+        }
+        return selectStatementContext.getSubqueryContexts().values().stream().anyMatch(this::containsShorthandProjection);
+    }
+    
+    /**
+     * Find SQL rewrite plan.
+     * 
+     * @param sql SQL
+     * @param routeContext route context
+     * @return found SQL rewrite plan
+     */
+    public Optional<SQLRewritePlan> findRewritePlan(final String sql, final RouteContext routeContext) {
+        ExecutionPlan plan = plans.getIfPresent(sql);
+        return null == plan ? Optional.empty() : plan.findRewritePlan(routeContext);
+    }
+    
+    /**
+     * Put SQL rewrite plan.
+     * 
+     * @param sql SQL
+     * @param routeContext route context
+     * @param rewritePlan SQL rewrite plan
+     */
+    public void putRewritePlan(final String sql, final RouteContext routeContext, final SQLRewritePlan rewritePlan) {
+        plans.get(sql, unused -> new ExecutionPlan()).putRewritePlan(routeContext, rewritePlan);
+    }
+    
+    /**
+     * Invalidate all execution plans.
+     */
+    public void invalidateAll() {
+        plans.invalidateAll();
+    }
+}
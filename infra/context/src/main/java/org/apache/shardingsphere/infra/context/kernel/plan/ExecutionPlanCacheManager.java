@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+
+/**
+ * Execution plan cache manager.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanCacheManager {
+    
+    private static final Cache<ShardingSphereDatabase, ExecutionPlanCache> CACHES = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get execution plan cache of database.
+     * 
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return execution plan cache
+     */
+    public static ExecutionPlanCache getCache(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        ExecutionPlanCache result = CACHES.get(database, unused -> new ExecutionPlanCache(database, globalRuleMetaData, props));
+        if (!result.isSameVersion(database, globalRuleMetaData, props)) {
+            result = new ExecutionPlanCache(database, globalRuleMetaData, props);
+            CACHES.put(database, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate execution plans of database.
+     * 
+     * @param databaseName database name
+     */
+    public static void invalidate(final String databaseName) {
+        CACHES.asMap().forEach((key, value) -> {
+            if (key.getName().equalsIgnoreCase(databaseName)) {
+                value.invalidateAll();
+            }
+        });
+    }
+}
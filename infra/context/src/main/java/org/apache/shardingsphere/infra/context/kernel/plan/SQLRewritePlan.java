@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan.
+ * 
+ * <p>SQL rewrite plan keeps rewritten SQL of each route unit, and fills them with parameters of later executions which are routed to same route units.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewritePlan {
+    
+    private final Map<RouteUnit, SQLRewriteTemplate> templates;
+    
+    private final boolean needAggregateRewrite;
+    
+    /**
+     * Create SQL rewrite plan.
+     * 
+     * @param rewriteResult route SQL rewrite result
+     * @param params SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @return created SQL rewrite plan, empty if SQL rewrite result is not reusable
+     */
+    public static Optional<SQLRewritePlan> newInstance(final RouteSQLRewriteResult rewriteResult, final List<Object> params, final SQLStatementContext<?> sqlStatementContext) {
+        if (rewriteResult.isParametersRewritten()) {
+            return Optional.empty();
+        }
+        Map<RouteUnit, SQLRewriteTemplate> templates = new LinkedHashMap<>(rewriteResult.getSqlRewriteUnits().size(), 1);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            int paramsSize = entry.getValue().getParameters().size();
+            if (params.isEmpty() ? 0 != paramsSize : 0 != paramsSize % params.size()) {
+                return Optional.empty();
+            }
+            templates.put(entry.getKey(), new SQLRewriteTemplate(entry.getValue().getSql(), params.isEmpty() ? 0 : paramsSize / params.size()));
+        }
+        boolean needAggregateRewrite = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
+        return Optional.of(new SQLRewritePlan(templates, needAggregateRewrite));
+    }
+    
+    /**
+     * Fill rewritten SQL with parameters.
+     * 
+     * @param params SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @return route SQL rewrite result
+     */
+    public RouteSQLRewriteResult fill(final List<Object> params, final SQLStatementContext<?> sqlStatementContext) {
+        if (needAggregateRewrite && sqlStatementContext instanceof SelectStatementContext) {
+            ((SelectStatementContext) sqlStatementContext).setNeedAggregateRewrite(true);
+        }
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(templates.size(), 1);
+        for (Entry<RouteUnit, SQLRewriteTemplate> entry : templates.entrySet()) {
+            sqlRewriteUnits.put(entry.getKey(), new SQLRewriteUnit(entry.getValue().getSql(), entry.getValue().fillParameters(params)));
+        }
+        return new RouteSQLRewriteResult(sqlRewriteUnits, false);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SQLRewriteTemplate {
+        
+        private final String sql;
+        
+        private final int parameterCopies;
+        
+        private List<Object> fillParameters(final List<Object> params) {
+            List<Object> result = new ArrayList<>(params.size() * parameterCopies);
+            for (int i = 0; i < parameterCopies; i++) {
+                result.addAll(params);
+            }
+            return result;
+        }
+    }
+}
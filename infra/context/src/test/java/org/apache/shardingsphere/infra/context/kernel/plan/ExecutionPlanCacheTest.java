@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExecutionPlanCacheTest {
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList());
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_MAX_SIZE.getKey(), "16")));
+    
+    @Test
+    void assertIsCacheable() {
+        ExecutionPlanCache planCache = new ExecutionPlanCache(database, globalRuleMetaData, props);
+        assertTrue(planCache.isCacheable(mock(UpdateStatementContext.class), createRouteContext("ds_0", "t_order_0")));
+        assertFalse(planCache.isCacheable(mock(UpdateStatementContext.class), new RouteContext()));
+        assertFalse(planCache.isCacheable(mock(InsertStatementContext.class), createRouteContext("ds_0", "t_order_0")));
+    }
+    
+    @Test
+    void assertIsCacheableWithSelectStatement() {
+        ExecutionPlanCache planCache = new ExecutionPlanCache(database, globalRuleMetaData, props);
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getProjectionsContext().getProjections()).thenReturn(Collections.singleton(new ColumnProjection(null, "order_id", null)));
+        assertTrue(planCache.isCacheable(sqlStatementContext, createRouteContext("ds_0", "t_order_0")));
+        when(sqlStatementContext.getProjectionsContext().getProjections()).thenReturn(Collections.singleton(new ShorthandProjection(null, Collections.emptyList())));
+        assertFalse(planCache.isCacheable(sqlStatementContext, createRouteContext("ds_0", "t_order_0")));
+    }
+    
+    @Test
+    void assertFindRewritePlan() {
+        ExecutionPlanCache planCache = new ExecutionPlanCache(database, globalRuleMetaData, props);
+        String sql = "UPDATE t_order SET status = ? WHERE order_id = ?";
+        RouteContext routeContext = createRouteContext("ds_0", "t_order_0");
+        assertFalse(planCache.findRewritePlan(sql, routeContext).isPresent());
+        RouteSQLRewriteResult rewriteResult = new RouteSQLRewriteResult(Collections.singletonMap(routeContext.getRouteUnits().iterator().next(),
+                new SQLRewriteUnit("UPDATE t_order_0 SET status = ? WHERE order_id = ?", Collections.singletonList(1))), false);
+        planCache.putRewritePlan(sql, routeContext, SQLRewritePlan.newInstance(rewriteResult, Collections.singletonList(1), mock(UpdateStatementContext.class)).orElse(null));
+        assertTrue(planCache.findRewritePlan(sql, createRouteContext("ds_0", "t_order_0")).isPresent());
+        assertFalse(planCache.findRewritePlan(sql, createRouteContext("ds_1", "t_order_1")).isPresent());
+        planCache.invalidateAll();
+        assertFalse(planCache.findRewritePlan(sql, routeContext).isPresent());
+    }
+    
+    @Test
+    void assertGetCacheFromManager() {
+        ExecutionPlanCache actual = ExecutionPlanCacheManager.getCache(database, globalRuleMetaData, props);
+        assertThat(ExecutionPlanCacheManager.getCache(database, globalRuleMetaData, props), is(sameInstance(actual)));
+        assertThat(ExecutionPlanCacheManager.getCache(database, new ShardingSphereRuleMetaData(Collections.emptyList()), props), is(not(sameInstance(actual))));
+    }
+    
+    @Test
+    void assertInvalidateFromManager() {
+        when(database.getName()).thenReturn("foo_db");
+        ExecutionPlanCache planCache = ExecutionPlanCacheManager.getCache(database, globalRuleMetaData, props);
+        String sql = "UPDATE t_order SET status = ? WHERE order_id = ?";
+        RouteContext routeContext = createRouteContext("ds_0", "t_order_0");
+        RouteSQLRewriteResult rewriteResult = new RouteSQLRewriteResult(Collections.singletonMap(routeContext.getRouteUnits().iterator().next(),
+                new SQLRewriteUnit("UPDATE t_order_0 SET status = ? WHERE order_id = ?", Collections.singletonList(1))), false);
+        planCache.putRewritePlan(sql, routeContext, SQLRewritePlan.newInstance(rewriteResult, Collections.singletonList(1), mock(UpdateStatementContext.class)).orElse(null));
+        ExecutionPlanCacheManager.invalidate("bar_db");
+        assertTrue(planCache.findRewritePlan(sql, routeContext).isPresent());
+        ExecutionPlanCacheManager.invalidate("FOO_DB");
+        assertFalse(planCache.findRewritePlan(sql, routeContext).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final String dataSourceName, final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+}
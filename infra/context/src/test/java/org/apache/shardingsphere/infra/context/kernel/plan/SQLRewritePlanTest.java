@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLRewritePlanTest {
+    
+    private final RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    private final RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+    
+    @Test
+    void assertNewInstanceWithRewrittenParameters() {
+        RouteSQLRewriteResult rewriteResult = new RouteSQLRewriteResult(
+                Collections.singletonMap(firstRouteUnit, new SQLRewriteUnit("UPDATE t_order_0 SET status = ? WHERE order_id = ?", Arrays.asList("encrypted", 1))));
+        assertFalse(SQLRewritePlan.newInstance(rewriteResult, Arrays.asList("plain", 1), mock(UpdateStatementContext.class)).isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithUnexpectedParameterSize() {
+        RouteSQLRewriteResult rewriteResult = new RouteSQLRewriteResult(
+                Collections.singletonMap(firstRouteUnit, new SQLRewriteUnit("UPDATE t_order_0 SET status = ? WHERE order_id = ?", Collections.singletonList(1))), false);
+        assertFalse(SQLRewritePlan.newInstance(rewriteResult, Arrays.asList("plain", 1), mock(UpdateStatementContext.class)).isPresent());
+    }
+    
+    @Test
+    void assertFill() {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(2, 1);
+        sqlRewriteUnits.put(firstRouteUnit, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE user_id = ?", Collections.singletonList(1)));
+        sqlRewriteUnits.put(secondRouteUnit, new SQLRewriteUnit("SELECT * FROM t_order_1 WHERE user_id = ?", Collections.singletonList(1)));
+        Optional<SQLRewritePlan> rewritePlan = SQLRewritePlan.newInstance(new RouteSQLRewriteResult(sqlRewriteUnits, false), Collections.singletonList(1), mock(SelectStatementContext.class));
+        assertTrue(rewritePlan.isPresent());
+        RouteSQLRewriteResult actual = rewritePlan.get().fill(Collections.singletonList(2), mock(SelectStatementContext.class));
+        assertFalse(actual.isParametersRewritten());
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT * FROM t_order_0 WHERE user_id = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Collections.<Object>singletonList(2)));
+        assertThat(actual.getSqlRewriteUnits().get(secondRouteUnit).getSql(), is("SELECT * FROM t_order_1 WHERE user_id = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(secondRouteUnit).getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+    
+    @Test
+    void assertFillWithAggregateRewrite() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        when(sqlStatementContext.isNeedAggregateRewrite()).thenReturn(true);
+        RouteSQLRewriteResult rewriteResult = new RouteSQLRewriteResult(Collections.singletonMap(firstRouteUnit,
+                new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE user_id = ? UNION ALL SELECT * FROM t_order_1 WHERE user_id = ?", Arrays.asList(1, 1))), false);
+        Optional<SQLRewritePlan> rewritePlan = SQLRewritePlan.newInstance(rewriteResult, Collections.singletonList(1), sqlStatementContext);
+        assertTrue(rewritePlan.isPresent());
+        SelectStatementContext newSQLStatementContext = mock(SelectStatementContext.class);
+        RouteSQLRewriteResult actual = rewritePlan.get().fill(Collections.singletonList(2), newSQLStatementContext);
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.<Object>asList(2, 2)));
+        verify(newSQLStatementContext).setNeedAggregateRewrite(true);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
@@ -30,8 +31,12 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor engine.
@@ -41,10 +46,24 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final int PREFETCH_THREAD_SIZE = CPU_CORES * 2;
+    
+    private static final int PREFETCH_QUEUE_SIZE = 1024;
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final ExecutorService prefetchExecutorService;
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
+        prefetchExecutorService = createPrefetchExecutorService();
+    }
+    
+    private ExecutorService createPrefetchExecutorService() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(PREFETCH_THREAD_SIZE, PREFETCH_THREAD_SIZE, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(PREFETCH_QUEUE_SIZE), ExecutorThreadFactoryBuilder.build("StreamPrefetch-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
     }
     
     /**
@@ -54,7 +73,20 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size or virtual threads.
+     *
+     * <p>Each execution group runs on a new virtual thread and executor size is ignored if virtual thread enabled.</p>
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether virtual thread enabled
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -66,7 +98,7 @@ public final class ExecutorEngine implements AutoCloseable {
     public static ExecutorEngine createExecutorEngineWithCPUAndResources(final int resourceCount) {
         int cpuThreadCount = CPU_CORES * 2 - 1;
         int resourceThreadCount = Math.max(resourceCount, 1);
-        return new ExecutorEngine(Math.min(cpuThreadCount, resourceThreadCount));
+        return new ExecutorEngine(Math.min(cpuThreadCount, resourceThreadCount), false);
     }
     
     /**
@@ -76,7 +108,7 @@ public final class ExecutorEngine implements AutoCloseable {
      */
     public static ExecutorEngine createExecutorEngineWithCPU() {
         int cpuThreadCount = CPU_CORES * 2 - 1;
-        return new ExecutorEngine(cpuThreadCount);
+        return new ExecutorEngine(cpuThreadCount, false);
     }
     
     /**
@@ -167,5 +199,6 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorServiceManager.close();
+        prefetchExecutorService.shutdown();
     }
 }
@@ -20,13 +20,16 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
  * Executor thread factory builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
@@ -40,4 +43,30 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * <p>Virtual threads require Java 21 or above, daemon platform threads will be built if current runtime does not support virtual threads.</p>
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        Optional<ThreadFactory> virtualThreadFactory = findVirtualThreadFactory();
+        if (!virtualThreadFactory.isPresent()) {
+            log.warn("Virtual threads are not supported by current Java runtime, use platform threads instead.");
+            return build(nameFormat);
+        }
+        return new ThreadFactoryBuilder().setThreadFactory(virtualThreadFactory.get()).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
+    }
+    
+    private static Optional<ThreadFactory> findVirtualThreadFactory() {
+        try {
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return Optional.of((ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
 }
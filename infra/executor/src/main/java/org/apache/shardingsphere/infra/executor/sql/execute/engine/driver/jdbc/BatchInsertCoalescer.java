@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Batch insert coalescer.
+ *
+ * <p>Rows of a batched single row INSERT statement which are routed to same data node are coalesced into multi-row INSERT statements,
+ * and parameter count of each coalesced statement is capped by max parameters.
+ * Position of values row is taken from segments of parsed SQL statement rather than scanning SQL, so quotes, escapes and comments of any dialect are respected,
+ * and statement with any clause beside values row, such as ON DUPLICATE KEY UPDATE or RETURNING, is never coalesced.
+ * Only statements sent to storage are coalesced, routing and rewriting of each row are unchanged.
+ * Update count of each row is 1 if update count of coalesced statement equals its row count, otherwise it is {@link Statement#SUCCESS_NO_INFO}.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchInsertCoalescer {
+    
+    private final String sqlBeforeValuesRow;
+    
+    private final String valuesRow;
+    
+    private final String sqlAfterValuesRow;
+    
+    @Getter
+    private final int rowsPerStatement;
+    
+    /**
+     * Create batch insert coalescer.
+     *
+     * @param sql SQL of single row INSERT statement
+     * @param sqlStatement SQL statement parsed from SQL
+     * @param parameterCount parameter count of each row
+     * @param maxParameters max parameters of each coalesced statement
+     * @return created batch insert coalescer, empty if SQL is not a single row INSERT statement with all parameters in values row and nothing after values row, or rows can not be coalesced
+     */
+    public static Optional<BatchInsertCoalescer> create(final String sql, final SQLStatement sqlStatement, final int parameterCount, final int maxParameters) {
+        if (parameterCount <= 0 || maxParameters / parameterCount < 2 || !(sqlStatement instanceof InsertStatement)) {
+            return Optional.empty();
+        }
+        InsertStatement insertStatement = (InsertStatement) sqlStatement;
+        if (1 != insertStatement.getValues().size() || hasClauseBesideValuesRow(insertStatement)) {
+            return Optional.empty();
+        }
+        InsertValuesSegment valuesRowSegment = insertStatement.getValues().iterator().next();
+        if (!isAllParametersInValuesRow(insertStatement, valuesRowSegment, parameterCount) || !isNothingAfterValuesRow(sql, valuesRowSegment)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BatchInsertCoalescer(sql.substring(0, valuesRowSegment.getStartIndex()), sql.substring(valuesRowSegment.getStartIndex(), valuesRowSegment.getStopIndex() + 1),
+                sql.substring(valuesRowSegment.getStopIndex() + 1), maxParameters / parameterCount));
+    }
+    
+    private static boolean hasClauseBesideValuesRow(final InsertStatement insertStatement) {
+        return insertStatement.getInsertSelect().isPresent() || InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent()
+                || InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent() || InsertStatementHandler.getReturningSegment(insertStatement).isPresent()
+                || InsertStatementHandler.getOutputSegment(insertStatement).isPresent() || InsertStatementHandler.getInsertMultiTableElementSegment(insertStatement).isPresent()
+                || InsertStatementHandler.getSelectSubquery(insertStatement).isPresent();
+    }
+    
+    private static boolean isAllParametersInValuesRow(final InsertStatement insertStatement, final InsertValuesSegment valuesRowSegment, final int parameterCount) {
+        if (parameterCount != insertStatement.getParameterMarkerSegments().size()) {
+            return false;
+        }
+        for (ParameterMarkerSegment each : insertStatement.getParameterMarkerSegments()) {
+            if (!(each instanceof ParameterMarkerExpressionSegment) || ParameterMarkerType.QUESTION != ((ParameterMarkerExpressionSegment) each).getParameterMarkerType()
+                    || each.getStartIndex() < valuesRowSegment.getStartIndex() || each.getStopIndex() > valuesRowSegment.getStopIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isNothingAfterValuesRow(final String sql, final InsertValuesSegment valuesRowSegment) {
+        if (valuesRowSegment.getStopIndex() >= sql.length() || '(' != sql.charAt(valuesRowSegment.getStartIndex()) || ')' != sql.charAt(valuesRowSegment.getStopIndex())) {
+            return false;
+        }
+        String sqlAfterValuesRow = sql.substring(valuesRowSegment.getStopIndex() + 1).trim();
+        return sqlAfterValuesRow.isEmpty() || ";".equals(sqlAfterValuesRow);
+    }
+    
+    /**
+     * Get SQL of coalesced statement.
+     *
+     * @param rowCount row count of coalesced statement
+     * @return SQL of coalesced statement
+     */
+    public String getSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder(sqlBeforeValuesRow.length() + (valuesRow.length() + 2) * rowCount + sqlAfterValuesRow.length());
+        result.append(sqlBeforeValuesRow).append(valuesRow);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(valuesRow);
+        }
+        return result.append(sqlAfterValuesRow).toString();
+    }
+    
+    /**
+     * Execute batch with coalesced statements.
+     *
+     * @param connection connection
+     * @param parameterSets parameter sets of each row
+     * @return update counts of each row
+     * @throws SQLException SQL exception
+     */
+    public int[] executeBatch(final Connection connection, final List<List<Object>> parameterSets) throws SQLException {
+        int[] result = new int[parameterSets.size()];
+        int fullStatementCount = parameterSets.size() / rowsPerStatement;
+        if (fullStatementCount > 0) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(rowsPerStatement))) {
+                for (int i = 0; i < fullStatementCount; i++) {
+                    setParameters(preparedStatement, parameterSets.subList(i * rowsPerStatement, (i + 1) * rowsPerStatement));
+                    preparedStatement.addBatch();
+                }
+                fillUpdateCounts(preparedStatement.executeBatch(), rowsPerStatement, 0, result);
+            }
+        }
+        int remainingRowCount = parameterSets.size() % rowsPerStatement;
+        if (remainingRowCount > 0) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(getSQL(remainingRowCount))) {
+                setParameters(preparedStatement, parameterSets.subList(parameterSets.size() - remainingRowCount, parameterSets.size()));
+                fillUpdateCounts(new int[]{preparedStatement.executeUpdate()}, remainingRowCount, parameterSets.size() - remainingRowCount, result);
+            }
+        }
+        return result;
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final List<List<Object>> parameterSets) throws SQLException {
+        int parameterIndex = 0;
+        for (List<Object> each : parameterSets) {
+            for (Object eachParameter : each) {
+                preparedStatement.setObject(++parameterIndex, eachParameter);
+            }
+        }
+    }
+    
+    private void fillUpdateCounts(final int[] updateCounts, final int rowCount, final int startRowIndex, final int[] result) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            int fromIndex = startRowIndex + i * rowCount;
+            Arrays.fill(result, fromIndex, fromIndex + rowCount, rowCount == updateCounts[i] ? 1 : Statement.SUCCESS_NO_INFO);
+        }
+    }
+}
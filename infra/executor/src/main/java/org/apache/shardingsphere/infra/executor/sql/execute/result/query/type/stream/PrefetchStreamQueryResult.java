@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.exception.UnsupportedDataTypeConversionException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Prefetch stream query result.
+ * 
+ * <p>Rows of the stream query result are fetched by executor threads into a bounded buffer ahead of consuming,
+ * so that fetching latency of multiple stream query results overlaps.
+ * Values are loaded with the JDBC getter matching column type, and converted to the type and calendar required by consumer when being read.
+ * Fetch task does not wait for free space of buffer, it exits when buffer is full and is submitted again when half of buffer is consumed,
+ * so executor threads are never blocked by slow consumers. If the executor rejects the fetch task, rows are fetched by the current thread instead.
+ * It must be closed before the underlying result set and statement are closed, closing waits for the fetch task in progress and stops further fetching.</p>
+ */
+public final class PrefetchStreamQueryResult extends AbstractStreamQueryResult {
+    
+    private static final MemoryQueryResultDataRow END_OF_ROWS = new MemoryQueryResultDataRow(Collections.emptyList());
+    
+    private final QueryResult queryResult;
+    
+    private final ExecutorService executorService;
+    
+    private final int bufferSize;
+    
+    private final int columnCount;
+    
+    private final Class<?>[] loadTypes;
+    
+    private final BlockingQueue<MemoryQueryResultDataRow> rows;
+    
+    private final Lock fetchLock = new ReentrantLock();
+    
+    private final AtomicBoolean fetching = new AtomicBoolean();
+    
+    private volatile boolean fetchFinished;
+    
+    private volatile boolean closed;
+    
+    private volatile SQLException fetchException;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
+    private boolean wasNull;
+    
+    public PrefetchStreamQueryResult(final QueryResult queryResult, final ExecutorService executorService, final int bufferSize) throws SQLException {
+        super(queryResult.getMetaData());
+        this.queryResult = queryResult;
+        this.executorService = executorService;
+        this.bufferSize = bufferSize;
+        columnCount = queryResult.getMetaData().getColumnCount();
+        loadTypes = getLoadTypes(queryResult);
+        rows = new ArrayBlockingQueue<>(bufferSize + 1);
+        fetchIfNecessary();
+    }
+    
+    private Class<?>[] getLoadTypes(final QueryResult queryResult) throws SQLException {
+        Class<?>[] result = new Class<?>[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = getLoadType(queryResult.getMetaData().getColumnType(columnIndex));
+        }
+        return result;
+    }
+    
+    private Class<?> getLoadType(final int columnType) {
+        switch (columnType) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return String.class;
+            case Types.TIME:
+                return Time.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return byte[].class;
+            case Types.CLOB:
+                return Clob.class;
+            case Types.BLOB:
+                return Blob.class;
+            case Types.ARRAY:
+                return Array.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    private void fetchIfNecessary() {
+        if (!fetchFinished && !closed && rows.size() <= bufferSize / 2 && fetching.compareAndSet(false, true)) {
+            try {
+                executorService.execute(this::fetch);
+            } catch (final RejectedExecutionException ignored) {
+                fetch();
+            }
+        }
+    }
+    
+    private void fetch() {
+        fetchLock.lock();
+        try {
+            while (!fetchFinished && !closed && rows.size() < bufferSize) {
+                if (queryResult.next()) {
+                    rows.offer(loadCurrentRow());
+                } else {
+                    finishFetch();
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            fetchException = ex instanceof SQLException ? (SQLException) ex : new SQLException(ex);
+            finishFetch();
+        } finally {
+            fetching.set(false);
+            fetchLock.unlock();
+        }
+        fetchIfNecessary();
+    }
+    
+    private MemoryQueryResultDataRow loadCurrentRow() throws SQLException {
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Object value = queryResult.getValue(columnIndex, loadTypes[columnIndex - 1]);
+            result.add(queryResult.wasNull() ? null : value);
+        }
+        return new MemoryQueryResultDataRow(result);
+    }
+    
+    private void finishFetch() {
+        fetchFinished = true;
+        rows.offer(END_OF_ROWS);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (END_OF_ROWS == currentRow) {
+            return false;
+        }
+        currentRow = takeRow();
+        fetchIfNecessary();
+        if (END_OF_ROWS != currentRow) {
+            return true;
+        }
+        if (null != fetchException) {
+            throw fetchException;
+        }
+        return false;
+    }
+    
+    private MemoryQueryResultDataRow takeRow() {
+        try {
+            return rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == result;
+        return wasNull || Object.class == type ? result : ResultSetUtils.convertValue(result, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (Date.class != type && Time.class != type && Timestamp.class != type) {
+            throw new UnsupportedDataTypeConversionException(type, calendar).toSQLException();
+        }
+        Object result = getValue(columnIndex, type);
+        if (wasNull || null == calendar) {
+            return result;
+        }
+        if (!(result instanceof java.util.Date)) {
+            throw new UnsupportedDataTypeConversionException(type, result).toSQLException();
+        }
+        return convertCalendarValue((java.util.Date) result, type, calendar);
+    }
+    
+    private Object convertCalendarValue(final java.util.Date value, final Class<?> type, final Calendar calendar) {
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(value);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(Calendar.ERA, localCalendar.get(Calendar.ERA));
+        targetCalendar.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        long millis = targetCalendar.getTimeInMillis();
+        if (Timestamp.class == type) {
+            Timestamp result = new Timestamp(millis);
+            result.setNanos(value instanceof Timestamp ? ((Timestamp) value).getNanos() : localCalendar.get(Calendar.MILLISECOND) * 1000000);
+            return result;
+        }
+        return Time.class == type ? new Time(millis) : new Date(millis);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        fetchLock.lock();
+        try {
+            if (!fetchFinished) {
+                finishFetch();
+            }
+            queryResult.close();
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+}
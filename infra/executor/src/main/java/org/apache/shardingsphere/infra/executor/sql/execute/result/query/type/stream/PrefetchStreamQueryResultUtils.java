@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Prefetch stream query result utility class.
+ * 
+ * <p>Rows are fetched by the prefetch executor service of executor engine rather than kernel executor, because fetching blocks on network I/O of underlying result sets.
+ * Each prefetch stream query result has at most one fetch task in the pool at the same time.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrefetchStreamQueryResultUtils {
+    
+    /**
+     * Prefetch stream query results if they come from multiple data nodes and prefetching is enabled.
+     *
+     * @param queryResults query results
+     * @param props configuration properties
+     * @param executorEngine executor engine
+     * @return prefetch stream query results, or original query results if no need to prefetch
+     * @throws SQLException SQL exception
+     */
+    public static List<QueryResult> prefetch(final List<QueryResult> queryResults, final ConfigurationProperties props, final ExecutorEngine executorEngine) throws SQLException {
+        int prefetchRows = props.getValue(ConfigurationPropertyKey.STREAM_QUERY_RESULT_PREFETCH_ROWS);
+        if (prefetchRows <= 0 || queryResults.size() <= 1) {
+            return queryResults;
+        }
+        List<QueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            result.add(each instanceof AbstractStreamQueryResult && !(each instanceof PrefetchStreamQueryResult)
+                    ? new PrefetchStreamQueryResult(each, executorEngine.getPrefetchExecutorService(), prefetchRows)
+                    : each);
+        }
+        return result;
+    }
+    
+    /**
+     * Close prefetch stream query results, other query results are skipped.
+     *
+     * @param queryResults query results
+     * @throws SQLException SQL exception
+     */
+    public static void close(final Collection<QueryResult> queryResults) throws SQLException {
+        SQLException ex = null;
+        for (QueryResult each : queryResults) {
+            if (!(each instanceof PrefetchStreamQueryResult)) {
+                continue;
+            }
+            try {
+                each.close();
+            } catch (final SQLException closeException) {
+                if (null == ex) {
+                    ex = closeException;
+                } else {
+                    ex.setNextException(closeException);
+                }
+            }
+        }
+        if (null != ex) {
+            throw ex;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
 
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -86,6 +87,9 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new LinkedList<>();
         List<C> connections = connectionManager.getConnections(dataSourceName, sqlUnitGroups.size(), connectionMode);
+        if (connections.size() < sqlUnitGroups.size()) {
+            return regroup(dataSourceName, sqlUnitGroups, connections);
+        }
         int count = 0;
         for (List<SQLUnit> each : sqlUnitGroups) {
             result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionMode));
@@ -93,6 +97,18 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    private List<ExecutionGroup<T>> regroup(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final List<C> connections) throws SQLException {
+        List<SQLUnit> sqlUnits = new LinkedList<>();
+        sqlUnitGroups.forEach(sqlUnits::addAll);
+        int desiredPartitionSize = sqlUnits.size() / connections.size() + (0 == sqlUnits.size() % connections.size() ? 0 : 1);
+        List<ExecutionGroup<T>> result = new LinkedList<>();
+        int count = 0;
+        for (List<SQLUnit> each : Lists.partition(sqlUnits, desiredPartitionSize)) {
+            result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), ConnectionMode.CONNECTION_STRICTLY));
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private ExecutionGroup<T> createExecutionGroup(final String dataSourceName, final List<SQLUnit> sqlUnits, final C connection, final ConnectionMode connectionMode) throws SQLException {
         List<T> result = new LinkedList<>();
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for executor engine.
+ * 
+ * <p>
+ * Many client connections execute SQL of many data nodes concurrently, and each execution group blocks as a JDBC call does.
+ * Platform threads with CPU based executor size and virtual threads are compared, virtual threads require Java 21 or above.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class ExecutorEngineBenchmark {
+    
+    private static final long BLOCKING_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private static final int CPU_THREAD_COUNT = Runtime.getRuntime().availableProcessors() * 2 - 1;
+    
+    private static final ExecutorCallback<Object, Object> BLOCKING_CALLBACK = new BlockingExecutorCallback();
+    
+    @Param({"16", "64"})
+    private int executionGroupCount;
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Object> executionGroupContext;
+    
+    /**
+     * Set up executor engine and execution groups.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(CPU_THREAD_COUNT, virtualThreadEnabled);
+        List<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+        for (int i = 0; i < executionGroupCount; i++) {
+            executionGroups.add(new ExecutionGroup<>(Collections.singletonList(new Object())));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("foo_db"));
+    }
+    
+    /**
+     * Tear down executor engine.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute blocking execution groups in parallel.
+     *
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Object> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, BLOCKING_CALLBACK);
+    }
+    
+    private static final class BlockingExecutorCallback implements ExecutorCallback<Object, Object> {
+        
+        @Override
+        public Collection<Object> execute(final Collection<Object> inputs, final boolean isTrunkThread) {
+            LockSupport.parkNanos(BLOCKING_NANOS);
+            return inputs;
+        }
+    }
+}
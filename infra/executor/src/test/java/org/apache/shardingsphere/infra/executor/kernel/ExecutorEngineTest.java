@@ -97,6 +97,13 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertCloseWithPrefetchExecutorService() {
+        ExecutorEngine actual = ExecutorEngine.createExecutorEngineWithSize(1);
+        actual.close();
+        assertTrue(actual.getPrefetchExecutorService().isShutdown());
+    }
+    
     @Test
     void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
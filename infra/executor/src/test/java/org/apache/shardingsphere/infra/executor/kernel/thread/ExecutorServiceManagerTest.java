@@ -48,6 +48,27 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertThreadLocalValueTransmittedWithVirtualThreadEnabled() {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        ExecutorService executorService = new ExecutorServiceManager(1, true).getExecutorService();
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        executorService.submit(() -> {
+            assertValueTransmitted();
+            finished.set(true);
+        });
+        assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
+    }
+    
+    private void assertValueTransmitted() {
+        try {
+            assertThat(TRANSMITTABLE_THREAD_LOCAL.get(), is("foo"));
+        } catch (final AssertionError ex) {
+            ex.printStackTrace();
+            throw ex;
+        }
+    }
+    
     private void assertFinished(final AtomicBoolean finished) throws InterruptedException {
         while (!finished.get()) {
             Thread.sleep(100L);
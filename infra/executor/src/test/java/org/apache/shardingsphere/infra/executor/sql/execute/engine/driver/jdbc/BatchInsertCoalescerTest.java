@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.ReturningSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.subquery.SubquerySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchInsertCoalescerTest {
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertCreateWithMultiRowSQL() {
+        Optional<BatchInsertCoalescer> actual = BatchInsertCoalescer.create(INSERT_SQL, createInsertStatement(new MySQLInsertStatement(), INSERT_SQL, "(?, ?)"), 2, 5);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowsPerStatement(), is(2));
+        assertThat(actual.get().getSQL(3), is("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    void assertCreateWithEscapedQuoteAndTrailingSemicolon() {
+        String sql = "insert into t_order values(?, 'it\\'s )?(', ?) ;";
+        Optional<BatchInsertCoalescer> actual = BatchInsertCoalescer.create(sql, createInsertStatement(new MySQLInsertStatement(), sql, "(?, 'it\\'s )?(', ?)", 1, 17), 2, 4);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSQL(2), is("insert into t_order values(?, 'it\\'s )?(', ?), (?, 'it\\'s )?(', ?) ;"));
+    }
+    
+    @Test
+    void assertCreateWithDollarQuotedString() {
+        String sql = "INSERT INTO t_order (order_id, remark) VALUES (?, $$)?($$)";
+        Optional<BatchInsertCoalescer> actual = BatchInsertCoalescer.create(sql, createInsertStatement(new PostgreSQLInsertStatement(), sql, "(?, $$)?($$)", 1), 1, 2);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSQL(2), is("INSERT INTO t_order (order_id, remark) VALUES (?, $$)?($$), (?, $$)?($$)"));
+    }
+    
+    @Test
+    void assertCreateWithTrailingComment() {
+        String sql = INSERT_SQL + " -- )";
+        assertFalse(BatchInsertCoalescer.create(sql, createInsertStatement(new MySQLInsertStatement(), sql, "(?, ?)"), 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithTooFewMaxParameters() {
+        assertFalse(BatchInsertCoalescer.create(INSERT_SQL, createInsertStatement(new MySQLInsertStatement(), INSERT_SQL, "(?, ?)"), 2, 3).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithoutParameters() {
+        String sql = "INSERT INTO t_order (order_id, user_id) VALUES (1, 1)";
+        assertFalse(BatchInsertCoalescer.create(sql, createInsertStatement(new MySQLInsertStatement(), sql, "(1, 1)"), 0, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithoutInsertStatement() {
+        assertFalse(BatchInsertCoalescer.create(INSERT_SQL, mock(SQLStatement.class), 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithParametersOutOfValuesRow() {
+        String sql = INSERT_SQL + " ON DUPLICATE KEY UPDATE user_id = ?";
+        MySQLInsertStatement insertStatement = createInsertStatement(new MySQLInsertStatement(), sql, "(?, ?)");
+        insertStatement.getParameterMarkerSegments().add(new ParameterMarkerExpressionSegment(sql.length() - 1, sql.length() - 1, 2));
+        assertFalse(BatchInsertCoalescer.create(sql, insertStatement, 3, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithOnDuplicateKeyUpdate() {
+        String sql = INSERT_SQL + " ON DUPLICATE KEY UPDATE user_id = VALUES(user_id)";
+        MySQLInsertStatement insertStatement = createInsertStatement(new MySQLInsertStatement(), sql, "(?, ?)");
+        insertStatement.setOnDuplicateKeyColumns(new OnDuplicateKeyColumnsSegment(INSERT_SQL.length() + 1, sql.length() - 1, Collections.emptyList()));
+        assertFalse(BatchInsertCoalescer.create(sql, insertStatement, 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithReturning() {
+        String sql = INSERT_SQL + " RETURNING order_id";
+        PostgreSQLInsertStatement insertStatement = createInsertStatement(new PostgreSQLInsertStatement(), sql, "(?, ?)");
+        insertStatement.setReturningSegment(new ReturningSegment(INSERT_SQL.length() + 1, sql.length() - 1, mock(ProjectionsSegment.class)));
+        assertFalse(BatchInsertCoalescer.create(sql, insertStatement, 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithInsertSelect() {
+        String sql = "INSERT INTO t_order (order_id, user_id) SELECT order_id, user_id FROM t_order_item WHERE order_id IN (?, ?)";
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setInsertSelect(mock(SubquerySegment.class));
+        assertFalse(BatchInsertCoalescer.create(sql, insertStatement, 2, 100).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithMultiRowValues() {
+        String sql = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?)";
+        MySQLInsertStatement insertStatement = createInsertStatement(new MySQLInsertStatement(), sql, "(?, ?)");
+        insertStatement.getValues().add(new InsertValuesSegment(sql.length() - 6, sql.length() - 1, new ArrayList<>()));
+        assertFalse(BatchInsertCoalescer.create(sql, insertStatement, 4, 100).isPresent());
+    }
+    
+    @Test
+    void assertExecuteBatch() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement fullStatement = mock(PreparedStatement.class);
+        when(fullStatement.executeBatch()).thenReturn(new int[]{2, 1});
+        when(connection.prepareStatement("INSERT INTO t_order (order_id) VALUES (?), (?)")).thenReturn(fullStatement);
+        PreparedStatement remainingStatement = mock(PreparedStatement.class);
+        when(remainingStatement.executeUpdate()).thenReturn(1);
+        when(connection.prepareStatement("INSERT INTO t_order (order_id) VALUES (?)")).thenReturn(remainingStatement);
+        List<List<Object>> parameterSets = Arrays.asList(Collections.singletonList(1), Collections.singletonList(2),
+                Collections.singletonList(3), Collections.singletonList(4), Collections.singletonList(5));
+        String sql = "INSERT INTO t_order (order_id) VALUES (?)";
+        int[] actual = BatchInsertCoalescer.create(sql, createInsertStatement(new MySQLInsertStatement(), sql, "(?)"), 1, 2).orElseThrow(IllegalStateException::new)
+                .executeBatch(connection, parameterSets);
+        assertThat(actual, is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+        verify(fullStatement).setObject(1, 1);
+        verify(fullStatement).setObject(2, 2);
+        verify(fullStatement).setObject(1, 3);
+        verify(fullStatement).setObject(2, 4);
+        verify(remainingStatement).setObject(1, 5);
+        verify(fullStatement).close();
+        verify(remainingStatement).close();
+    }
+    
+    private <T extends InsertStatement> T createInsertStatement(final T insertStatement, final String sql, final String valuesRow) {
+        List<Integer> parameterMarkerOffsets = new ArrayList<>();
+        for (int i = valuesRow.indexOf('?'); i >= 0; i = valuesRow.indexOf('?', i + 1)) {
+            parameterMarkerOffsets.add(i);
+        }
+        return createInsertStatement(insertStatement, sql, valuesRow, parameterMarkerOffsets.stream().mapToInt(Integer::intValue).toArray());
+    }
+    
+    private <T extends InsertStatement> T createInsertStatement(final T insertStatement, final String sql, final String valuesRow, final int... parameterMarkerOffsets) {
+        int valuesRowStartIndex = sql.indexOf(valuesRow);
+        List<ExpressionSegment> values = new ArrayList<>(parameterMarkerOffsets.length);
+        for (int i = 0; i < parameterMarkerOffsets.length; i++) {
+            int parameterMarkerIndex = valuesRowStartIndex + parameterMarkerOffsets[i];
+            ParameterMarkerExpressionSegment parameterMarker = new ParameterMarkerExpressionSegment(parameterMarkerIndex, parameterMarkerIndex, i);
+            values.add(parameterMarker);
+            insertStatement.getParameterMarkerSegments().add(parameterMarker);
+        }
+        insertStatement.getValues().add(new InsertValuesSegment(valuesRowStartIndex, valuesRowStartIndex + valuesRow.length() - 1, values));
+        return insertStatement;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchStreamQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertNext() throws SQLException {
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(createQueryResult(100), executorService, 8);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+            assertThat(actual.getValue(2, String.class), is("value_" + i));
+            assertFalse(actual.wasNull());
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithNullValue() throws SQLException {
+        List<RawQueryResultColumnMetaData> columns = Collections.singletonList(new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INTEGER", 11, 0));
+        QueryResult queryResult = new RawMemoryQueryResult(new RawQueryResultMetaData(columns), Collections.singletonList(new MemoryQueryResultDataRow(Collections.singletonList(null))));
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(queryResult, executorService, 1);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithFetchFailure() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenReturn(true).thenThrow(new SQLException("fetch failure"));
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(queryResult, executorService, 4);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThrows(SQLException.class, actual::next);
+    }
+    
+    @Test
+    void assertNextWithFetchRuntimeFailure() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenThrow(new IllegalStateException("fetch failure"));
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(queryResult, executorService, 4);
+        assertThrows(SQLException.class, actual::next);
+    }
+    
+    @Test
+    void assertNextWithRejectedFetch() throws SQLException {
+        executorService.shutdown();
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(createQueryResult(10), executorService, 4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetValueWithType() throws SQLException {
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(createQueryResult(2), executorService, 4);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+        assertThat(actual.getValue(1, String.class), is("1"));
+        assertThat(actual.getValue(1, BigDecimal.class), is(new BigDecimal("1")));
+        assertThat(actual.getValue(1, boolean.class), is(true));
+    }
+    
+    @Test
+    void assertGetValueWithTypeOfNullValue() throws SQLException {
+        List<RawQueryResultColumnMetaData> columns = Collections.singletonList(new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INTEGER", 11, 0));
+        QueryResult queryResult = new RawMemoryQueryResult(new RawQueryResultMetaData(columns), Collections.singletonList(new MemoryQueryResultDataRow(Collections.singletonList(null))));
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(queryResult, executorService, 1);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    void assertGetCalendarValue() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2023-01-01 10:20:30.123456789");
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(createTimestampQueryResult(timestamp), executorService, 4);
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT+08:00"));
+        Calendar expectedCalendar = (Calendar) calendar.clone();
+        expectedCalendar.clear();
+        expectedCalendar.set(2023, Calendar.JANUARY, 1, 10, 20, 30);
+        expectedCalendar.set(Calendar.MILLISECOND, 123);
+        Timestamp expectedTimestamp = new Timestamp(expectedCalendar.getTimeInMillis());
+        expectedTimestamp.setNanos(123456789);
+        assertThat(actual.getCalendarValue(1, Timestamp.class, calendar), is(expectedTimestamp));
+        assertThat(actual.getCalendarValue(1, Date.class, calendar), is(new Date(expectedCalendar.getTimeInMillis())));
+        assertThat(actual.getCalendarValue(1, Time.class, calendar), is(new Time(expectedCalendar.getTimeInMillis())));
+        assertThat(actual.getCalendarValue(1, Timestamp.class, null), is(timestamp));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    void assertGetCalendarValueWithUnsupportedType() throws SQLException {
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(createTimestampQueryResult(new Timestamp(0L)), executorService, 4);
+        assertTrue(actual.next());
+        assertThrows(SQLException.class, () -> actual.getCalendarValue(1, String.class, Calendar.getInstance()));
+    }
+    
+    @Test
+    void assertCloseWaitForFetchInProgress() throws SQLException, InterruptedException, ExecutionException {
+        CountDownLatch fetchStartedLatch = new CountDownLatch(1);
+        CountDownLatch fetchReleasedLatch = new CountDownLatch(1);
+        AtomicBoolean fetching = new AtomicBoolean();
+        AtomicBoolean closedWhileFetching = new AtomicBoolean();
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenAnswer(invocation -> {
+            fetching.set(true);
+            fetchStartedLatch.countDown();
+            fetchReleasedLatch.await();
+            fetching.set(false);
+            return true;
+        });
+        doAnswer(invocation -> {
+            closedWhileFetching.set(fetching.get());
+            return null;
+        }).when(queryResult).close();
+        PrefetchStreamQueryResult actual = new PrefetchStreamQueryResult(queryResult, executorService, 4);
+        fetchStartedLatch.await();
+        Future<?> closeFuture = executorService.submit(() -> {
+            actual.close();
+            return null;
+        });
+        assertThrows(TimeoutException.class, () -> closeFuture.get(100L, TimeUnit.MILLISECONDS));
+        fetchReleasedLatch.countDown();
+        closeFuture.get();
+        verify(queryResult).close();
+        assertFalse(closedWhileFetching.get());
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        new PrefetchStreamQueryResult(queryResult, executorService, 4).close();
+        verify(queryResult).close();
+    }
+    
+    private QueryResult createTimestampQueryResult(final Timestamp timestamp) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnType(1)).thenReturn(Types.TIMESTAMP);
+        when(result.next()).thenReturn(true, false);
+        when(result.getValue(1, Timestamp.class)).thenReturn(timestamp);
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final int rowCount) {
+        List<RawQueryResultColumnMetaData> columns = Arrays.asList(new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INTEGER", 11, 0),
+                new RawQueryResultColumnMetaData("", "value", "value", Types.VARCHAR, "VARCHAR", 32, 0));
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(i, "value_" + i)));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), rows);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PrefetchStreamQueryResultUtilsTest {
+    
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(1);
+    
+    @AfterEach
+    void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    void assertPrefetchWithoutPrefetchRows() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(AbstractStreamQueryResult.class), mock(AbstractStreamQueryResult.class));
+        assertThat(PrefetchStreamQueryResultUtils.prefetch(queryResults, new ConfigurationProperties(new Properties()), executorEngine), is(queryResults));
+    }
+    
+    @Test
+    void assertPrefetchWithSingleQueryResult() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(AbstractStreamQueryResult.class));
+        assertThat(PrefetchStreamQueryResultUtils.prefetch(queryResults, createProperties(), executorEngine), is(queryResults));
+    }
+    
+    @Test
+    void assertPrefetchWithMultipleQueryResults() throws SQLException {
+        QueryResult memoryQueryResult = mock(QueryResult.class);
+        List<QueryResult> actual = PrefetchStreamQueryResultUtils.prefetch(
+                Arrays.asList(mock(AbstractStreamQueryResult.class, RETURNS_DEEP_STUBS), memoryQueryResult), createProperties(), executorEngine);
+        assertThat(actual.get(0), instanceOf(PrefetchStreamQueryResult.class));
+        assertThat(actual.get(1), is(memoryQueryResult));
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        QueryResult streamQueryResult = mock(AbstractStreamQueryResult.class, RETURNS_DEEP_STUBS);
+        QueryResult memoryQueryResult = mock(QueryResult.class);
+        List<QueryResult> queryResults = PrefetchStreamQueryResultUtils.prefetch(Arrays.asList(streamQueryResult, memoryQueryResult), createProperties(), executorEngine);
+        PrefetchStreamQueryResultUtils.close(queryResults);
+        verify(streamQueryResult).close();
+        verify(memoryQueryResult, never()).close();
+    }
+    
+    private ConfigurationProperties createProperties() {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.STREAM_QUERY_RESULT_PREFETCH_ROWS.getKey(), "16")));
+    }
+}
@@ -43,9 +43,24 @@ public final class SQLStatementParserEngineFactory {
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType,
                                                                        final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        return getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, null, isParseComment);
+    }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType name of database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param sqlFingerprintCacheOption SQL fingerprint cache option, null means SQL fingerprint cache is disabled
+     * @param isParseComment is parse comment
+     * @return SQL statement parser engine
+     */
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final CacheOption sqlFingerprintCacheOption, final boolean isParseComment) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, sqlFingerprintCacheOption, isParseComment));
         }
         return result;
     }
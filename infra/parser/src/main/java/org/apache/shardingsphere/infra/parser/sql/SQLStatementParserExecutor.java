@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFingerprintParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -33,9 +34,16 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
+    private final SQLFingerprintParserEngine fingerprintParserEngine;
+    
     public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        this(databaseType, parseTreeCacheOption, null, isParseComment);
+    }
+    
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final CacheOption sqlFingerprintCacheOption, final boolean isParseComment) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
+        fingerprintParserEngine = null == sqlFingerprintCacheOption ? null : new SQLFingerprintParserEngine(databaseType, sqlFingerprintCacheOption);
     }
     
     /**
@@ -45,6 +53,6 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return null == fingerprintParserEngine ? visitorEngine.visit(parserEngine.parse(sql, false)) : fingerprintParserEngine.parse(sql, visitorEngine::visit);
     }
 }
@@ -77,7 +77,7 @@ public final class SQLRewriteEntry {
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
         return routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext)
-                : new RouteSQLRewriteEngine(rule, protocolType, storageTypes).rewrite(sqlRewriteContext, routeContext);
+                : new RouteSQLRewriteEngine(rule, protocolType, storageTypes, props).rewrite(sqlRewriteContext, routeContext);
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> params, final SQLStatementContext<?> sqlStatementContext,
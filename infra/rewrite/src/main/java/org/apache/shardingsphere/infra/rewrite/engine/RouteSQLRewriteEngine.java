@@ -18,8 +18,15 @@
 package org.apache.shardingsphere.infra.rewrite.engine;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ShorthandProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
@@ -36,12 +43,17 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Route SQL rewrite engine.
@@ -49,12 +61,16 @@ import java.util.Map.Entry;
 @RequiredArgsConstructor
 public final class RouteSQLRewriteEngine {
     
+    private static final Collection<String> PRE_MERGE_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "MariaDB", "PostgreSQL", "openGauss"));
+    
     private final SQLTranslatorRule translatorRule;
     
     private final DatabaseType protocolType;
     
     private final Map<String, DatabaseType> storageTypes;
     
+    private final ConfigurationProperties props;
+    
     /**
      * Rewrite SQL and parameters.
      *
@@ -64,15 +80,21 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
-        for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
+        Map<String, Collection<RouteUnit>> routeUnitGroups = aggregateRouteUnitGroups(routeContext.getRouteUnits());
+        for (Entry<String, Collection<RouteUnit>> entry : routeUnitGroups.entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
                 sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                continue;
+            }
+            Optional<String> preMergeClause = findPreMergeClause(sqlRewriteContext.getSqlStatementContext(), entry.getKey(), routeUnits, 1 == routeUnitGroups.size());
+            if (preMergeClause.isPresent()) {
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createPreMergedSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits, preMergeClause.get()));
             } else {
                 addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
             }
         }
-        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
+        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits), isParametersRewritten(sqlRewriteContext.getParameterBuilder()));
     }
     
     private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
@@ -90,6 +112,21 @@ public final class RouteSQLRewriteEngine {
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
     }
     
+    private SQLRewriteUnit createPreMergedSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits,
+                                                         final String preMergeClause) {
+        Collection<String> sql = new LinkedList<>();
+        List<Object> params = new LinkedList<>();
+        boolean containsDollarMarker = ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
+        for (RouteUnit each : routeUnits) {
+            sql.add("(" + SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()) + ")");
+            if (containsDollarMarker && !params.isEmpty()) {
+                continue;
+            }
+            params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+        }
+        return new SQLRewriteUnit(String.join(" UNION ALL ", sql) + preMergeClause, params);
+    }
+    
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
                                     final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
@@ -110,6 +147,72 @@ public final class RouteSQLRewriteEngine {
         return needAggregateRewrite;
     }
     
+    private Optional<String> findPreMergeClause(final SQLStatementContext<?> sqlStatementContext, final String dataSourceName, final Collection<RouteUnit> routeUnits,
+                                                final boolean singleDataSource) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SORTED_QUERY_PRE_MERGE_ENABLED) || !(sqlStatementContext instanceof SelectStatementContext) || 1 == routeUnits.size()
+                || !isPreMergeSupported(protocolType) || !isPreMergeSupported(storageTypes.get(dataSourceName))) {
+            return Optional.empty();
+        }
+        SelectStatementContext statementContext = (SelectStatementContext) sqlStatementContext;
+        if (statementContext.isContainsSubquery() || statementContext.isContainsJoinQuery() || statementContext.isContainsCombine() || statementContext.isContainsHaving()
+                || statementContext.getProjectionsContext().isDistinctRow() || !statementContext.getGroupByContext().getItems().isEmpty()
+                || !statementContext.getProjectionsContext().getAggregationProjections().isEmpty() || SelectStatementHandler.getLockSegment(statementContext.getSqlStatement()).isPresent()) {
+            return Optional.empty();
+        }
+        return findPreMergeOrderByClause(statementContext).map(optional -> optional + getPreMergePaginationClause(statementContext, singleDataSource));
+    }
+    
+    private boolean isPreMergeSupported(final DatabaseType databaseType) {
+        return null != databaseType && PRE_MERGE_DATABASE_TYPES.contains(databaseType.getType());
+    }
+    
+    private Optional<String> findPreMergeOrderByClause(final SelectStatementContext selectStatementContext) {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        if (orderByItems.isEmpty()) {
+            return Optional.of("");
+        }
+        try {
+            selectStatementContext.setIndexes(getColumnLabelIndexMap(selectStatementContext.getProjectionsContext()));
+        } catch (final IllegalStateException ignored) {
+            return Optional.empty();
+        }
+        Collection<String> result = new LinkedList<>();
+        for (OrderByItem each : orderByItems) {
+            String orderByItem = each.getIndex() + " " + each.getSegment().getOrderDirection().name();
+            result.add(each.getSegment().getNullsOrderType().map(optional -> orderByItem + " NULLS " + optional.name()).orElse(orderByItem));
+        }
+        return Optional.of(" ORDER BY " + String.join(", ", result));
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final ProjectionsContext projectionsContext) {
+        List<Projection> columns = new ArrayList<>();
+        for (Projection each : projectionsContext.getProjections()) {
+            if (each instanceof ShorthandProjection) {
+                columns.addAll(((ShorthandProjection) each).getActualColumns());
+            } else {
+                columns.add(each);
+            }
+        }
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = columns.size(); i > 0; i--) {
+            result.put(SQLUtils.getExactlyValue(columns.get(i - 1).getColumnLabel()), i);
+        }
+        return result;
+    }
+    
+    private String getPreMergePaginationClause(final SelectStatementContext selectStatementContext, final boolean singleDataSource) {
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!paginationContext.isHasPagination()) {
+            return "";
+        }
+        // The pre-merged result of single data source is the only query result, which is not merged and paginated by kernel any more, so the original pagination is applied by database.
+        if (singleDataSource) {
+            String result = paginationContext.getActualRowCount().map(optional -> " LIMIT " + optional).orElse("");
+            return paginationContext.getOffsetSegment().isPresent() ? result + " OFFSET " + paginationContext.getActualOffset() : result;
+        }
+        return paginationContext.getRowCountSegment().isPresent() ? " LIMIT " + paginationContext.getRevisedRowCount(selectStatementContext) : "";
+    }
+    
     private Map<String, Collection<RouteUnit>> aggregateRouteUnitGroups(final Collection<RouteUnit> routeUnits) {
         Map<String, Collection<RouteUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1);
         for (RouteUnit each : routeUnits) {
@@ -119,6 +222,10 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
+    private boolean isParametersRewritten(final ParameterBuilder paramBuilder) {
+        return !(paramBuilder instanceof StandardParameterBuilder) || ((StandardParameterBuilder) paramBuilder).isRewritten();
+    }
+    
     private List<Object> getParameters(final ParameterBuilder paramBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
         if (paramBuilder instanceof StandardParameterBuilder) {
             return paramBuilder.getParameters();
@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.infra.rewrite.engine;
 
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -31,18 +34,30 @@ import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResu
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
 import org.apache.shardingsphere.sqltranslator.api.config.SQLTranslatorRuleConfiguration;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RouteSQLRewriteEngineTest {
@@ -55,11 +70,12 @@ class RouteSQLRewriteEngineTest {
         RouteContext routeContext = new RouteContext();
         routeContext.getRouteUnits().add(routeUnit);
         DatabaseType databaseType = mock(DatabaseType.class);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType))
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), new ConfigurationProperties(new Properties()))
                 .rewrite(sqlRewriteContext, routeContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
+        assertFalse(actual.isParametersRewritten());
     }
     
     @Test
@@ -75,13 +91,81 @@ class RouteSQLRewriteEngineTest {
         routeContext.getRouteUnits().add(firstRouteUnit);
         routeContext.getRouteUnits().add(secondRouteUnit);
         DatabaseType databaseType = mock(DatabaseType.class);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType))
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), new ConfigurationProperties(new Properties()))
                 .rewrite(sqlRewriteContext, routeContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT ? UNION ALL SELECT ?"));
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
     }
     
+    @Test
+    void assertRewriteWithPreMergeForMultipleDataSources() {
+        SelectStatementContext statementContext = mockPaginatedSelectStatementContext();
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext, "SELECT ?", Collections.singletonList(1), mock(ConnectionContext.class));
+        RouteContext routeContext = new RouteContext();
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        RouteUnit thirdRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        routeContext.getRouteUnits().add(firstRouteUnit);
+        routeContext.getRouteUnits().add(secondRouteUnit);
+        routeContext.getRouteUnits().add(thirdRouteUnit);
+        DatabaseType databaseType = mockDatabaseType("MySQL");
+        Map<String, DatabaseType> storageTypes = new HashMap<>(2, 1);
+        storageTypes.put("ds_0", databaseType);
+        storageTypes.put("ds_1", databaseType);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, storageTypes, createPreMergeEnabledProperties())
+                .rewrite(sqlRewriteContext, routeContext);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("(SELECT ?) UNION ALL (SELECT ?) ORDER BY 1 DESC LIMIT 15"));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
+        assertThat(actual.getSqlRewriteUnits().get(thirdRouteUnit).getSql(), is("SELECT ?"));
+        verify(statementContext, never()).setNeedAggregateRewrite(true);
+    }
+    
+    @Test
+    void assertRewriteWithPreMergeForSingleDataSourceWithOffset() {
+        SelectStatementContext statementContext = mockPaginatedSelectStatementContext();
+        RouteSQLRewriteResult actual = rewriteSingleDataSourceWithMultipleTables(statementContext, "MySQL");
+        assertThat(actual.getSqlRewriteUnits().size(), is(1));
+        assertThat(actual.getSqlRewriteUnits().values().iterator().next().getSql(), is("(SELECT ?) UNION ALL (SELECT ?) ORDER BY 1 DESC LIMIT 5 OFFSET 10"));
+        verify(statementContext, never()).setNeedAggregateRewrite(true);
+    }
+    
+    @Test
+    void assertRewriteWithoutPreMergeForOracleSingleDataSourceWithOffset() {
+        SelectStatementContext statementContext = mockPaginatedSelectStatementContext();
+        RouteSQLRewriteResult actual = rewriteSingleDataSourceWithMultipleTables(statementContext, "Oracle");
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        actual.getSqlRewriteUnits().values().forEach(each -> assertThat(each.getSql(), is("SELECT ?")));
+        verify(statementContext, never()).setNeedAggregateRewrite(true);
+    }
+    
+    @Test
+    void assertRewriteWithoutPreMergeForSQLServerSingleDataSourceWithOffset() {
+        SelectStatementContext statementContext = mockPaginatedSelectStatementContext();
+        RouteSQLRewriteResult actual = rewriteSingleDataSourceWithMultipleTables(statementContext, "SQLServer");
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        actual.getSqlRewriteUnits().values().forEach(each -> assertThat(each.getSql(), is("SELECT ?")));
+        verify(statementContext, never()).setNeedAggregateRewrite(true);
+    }
+    
+    @Test
+    void assertRewriteWithoutPreMergeWhenDisabled() {
+        SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(statementContext.getOrderByContext().getItems()).thenReturn(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, null))));
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext, "SELECT ?", Collections.singletonList(1), mock(ConnectionContext.class));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1"))));
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn("MySQL");
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+    }
+    
     @Test
     void assertRewriteWithGroupedParameterBuilderForBroadcast() {
         InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
@@ -93,7 +177,7 @@ class RouteSQLRewriteEngineTest {
         RouteContext routeContext = new RouteContext();
         routeContext.getRouteUnits().add(routeUnit);
         DatabaseType databaseType = mock(DatabaseType.class);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType))
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), new ConfigurationProperties(new Properties()))
                 .rewrite(sqlRewriteContext, routeContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
@@ -113,7 +197,7 @@ class RouteSQLRewriteEngineTest {
         // TODO check why data node is "ds.tbl_0", not "ds_0.tbl_0"
         routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds.tbl_0")));
         DatabaseType databaseType = mock(DatabaseType.class);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType))
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), new ConfigurationProperties(new Properties()))
                 .rewrite(sqlRewriteContext, routeContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
@@ -132,7 +216,7 @@ class RouteSQLRewriteEngineTest {
         routeContext.getRouteUnits().add(routeUnit);
         routeContext.getOriginalDataNodes().add(Collections.emptyList());
         DatabaseType databaseType = mock(DatabaseType.class);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType))
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), new ConfigurationProperties(new Properties()))
                 .rewrite(sqlRewriteContext, routeContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
@@ -153,10 +237,53 @@ class RouteSQLRewriteEngineTest {
         routeContext.getRouteUnits().add(routeUnit);
         routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_1.tbl_1")));
         DatabaseType databaseType = mock(DatabaseType.class);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType))
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), new ConfigurationProperties(new Properties()))
                 .rewrite(sqlRewriteContext, routeContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertTrue(actual.getSqlRewriteUnits().get(routeUnit).getParameters().isEmpty());
     }
+    
+    private SelectStatementContext mockPaginatedSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, null));
+        when(result.getOrderByContext().getItems()).thenReturn(Collections.singletonList(orderByItem));
+        when(result.getPaginationContext().isHasPagination()).thenReturn(true);
+        when(result.getPaginationContext().getOffsetSegment()).thenReturn(Optional.of(mock(PaginationValueSegment.class)));
+        when(result.getPaginationContext().getRowCountSegment()).thenReturn(Optional.of(mock(PaginationValueSegment.class)));
+        when(result.getPaginationContext().getActualOffset()).thenReturn(10L);
+        when(result.getPaginationContext().getActualRowCount()).thenReturn(Optional.of(5L));
+        when(result.getPaginationContext().getRevisedRowCount(result)).thenReturn(15L);
+        when(result.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.emptyList());
+        when(result.getProjectionsContext().getProjections()).thenReturn(Collections.emptyList());
+        doAnswer(invocation -> {
+            orderByItem.setIndex(1);
+            return null;
+        }).when(result).setIndexes(anyMap());
+        return result;
+    }
+    
+    private RouteSQLRewriteResult rewriteSingleDataSourceWithMultipleTables(final SelectStatementContext statementContext, final String databaseTypeName) {
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext, "SELECT ?", Collections.singletonList(1), mock(ConnectionContext.class));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1"))));
+        DatabaseType databaseType = mockDatabaseType(databaseTypeName);
+        return new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, Collections.singletonMap("ds_0", databaseType), createPreMergeEnabledProperties())
+                .rewrite(sqlRewriteContext, routeContext);
+    }
+    
+    private DatabaseType mockDatabaseType(final String databaseTypeName) {
+        DatabaseType result = mock(DatabaseType.class);
+        when(result.getType()).thenReturn(databaseTypeName);
+        return result;
+    }
+    
+    private ConfigurationProperties createPreMergeEnabledProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.SORTED_QUERY_PRE_MERGE_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new ConfigurationProperties(result);
+    }
 }
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Evaluates a pre-parsed inline expression without Groovy. The evaluation keeps the Groovy semantics of the supported subset,
+ * and gives up for values or operations which are out of the subset, the caller should evaluate the expression with Groovy then.
+ * </p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private final Node[] segments;
+    
+    CompiledInlineExpression(final List<Node> segments) {
+        this.segments = segments.toArray(new Node[0]);
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables
+     * @return evaluated value, empty if the variables can not be evaluated without Groovy
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        if (1 == segments.length) {
+            Object result = segments[0].evaluate(variables);
+            return isRenderable(result) ? Optional.of(result.toString()) : Optional.empty();
+        }
+        StringBuilder result = new StringBuilder();
+        for (Node each : segments) {
+            Object value = each.evaluate(variables);
+            if (!isRenderable(value)) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static boolean isRenderable(final Object value) {
+        return value instanceof String || isIntegral(value);
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isInteger(final Object value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    interface Node {
+        
+        /**
+         * Evaluate node.
+         *
+         * @param variables variables
+         * @return evaluated value
+         */
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    enum Operator {
+        
+        PLUS, MINUS, MULTIPLY, REMAINDER
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class LiteralNode implements Node {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object result = variables.get(name);
+            return isRenderable(result) ? result : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class BinaryNode implements Node {
+        
+        private final Operator operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object leftValue = left.evaluate(variables);
+            if (UNSUPPORTED == leftValue) {
+                return UNSUPPORTED;
+            }
+            Object rightValue = right.evaluate(variables);
+            if (UNSUPPORTED == rightValue) {
+                return UNSUPPORTED;
+            }
+            if (isIntegral(leftValue) && isIntegral(rightValue)) {
+                return isInteger(leftValue) && isInteger(rightValue)
+                        ? calculate(((Number) leftValue).intValue(), ((Number) rightValue).intValue())
+                        : calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return Operator.PLUS == operator ? String.valueOf(leftValue) + rightValue : UNSUPPORTED;
+        }
+        
+        private Object calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case PLUS:
+                    return leftValue + rightValue;
+                case MINUS:
+                    return leftValue - rightValue;
+                case MULTIPLY:
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+        
+        private Object calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case PLUS:
+                    return leftValue + rightValue;
+                case MINUS:
+                    return leftValue - rightValue;
+                case MULTIPLY:
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class NegateNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            if (value instanceof Long) {
+                return -(Long) value;
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class AbsNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Integer) {
+                return Math.abs((Integer) value);
+            }
+            if (value instanceof Long) {
+                return Math.abs((Long) value);
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class HashCodeNode implements Node {
+        
+        private final Node target;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = target.evaluate(variables);
+            return UNSUPPORTED == value ? UNSUPPORTED : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class SubstringNode implements Node {
+        
+        private final Node target;
+        
+        private final Node beginIndex;
+        
+        private final Node endIndex;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = target.evaluate(variables);
+            Object begin = beginIndex.evaluate(variables);
+            Object end = null == endIndex ? null : endIndex.evaluate(variables);
+            if (!(value instanceof String) || !(begin instanceof Integer) || null != endIndex && !(end instanceof Integer)) {
+                return UNSUPPORTED;
+            }
+            String text = (String) value;
+            int beginValue = (Integer) begin;
+            int endValue = null == end ? text.length() : (Integer) end;
+            return beginValue < 0 || endValue > text.length() || beginValue > endValue ? UNSUPPORTED : text.substring(beginValue, endValue);
+        }
+    }
+}
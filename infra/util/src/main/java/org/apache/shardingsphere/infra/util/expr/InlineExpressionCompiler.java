@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.AbsNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.BinaryNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.HashCodeNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.LiteralNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.NegateNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.Node;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.Operator;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.SubstringNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.VariableNode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Compiles inline expression like {@code t_order_${order_id % 2}} which has been handled place holder.
+ * The supported subset contains string and integer literals, variables, {@code + - * %}, parentheses, {@code Math.abs()},
+ * {@code abs()}, {@code hashCode()} and {@code substring()}, other expressions should be evaluated with Groovy.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false",
+            "owner", "delegate", "thisObject", "directive", "resolveStrategy", "parameterTypes", "maximumNumberOfParameters", "class", "metaClass", "properties"));
+    
+    private final String inlineExpression;
+    
+    private int position;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, empty if the inline expression is not supported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        try {
+            return Optional.of(new CompiledInlineExpression(new InlineExpressionCompiler(inlineExpression).parseTemplate()));
+        } catch (final UnsupportedInlineExpressionException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private List<Node> parseTemplate() {
+        List<Node> result = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('$' == each) {
+                checkSupported(position + 1 < inlineExpression.length() && '{' == inlineExpression.charAt(position + 1));
+                position += 2;
+                if (literal.length() > 0) {
+                    result.add(new LiteralNode(literal.toString()));
+                    literal.setLength(0);
+                }
+                result.add(parseExpression());
+                expect('}');
+                continue;
+            }
+            checkSupported('\\' != each && '"' != each && '\n' != each && '\r' != each);
+            literal.append(each);
+            position++;
+        }
+        if (literal.length() > 0 || result.isEmpty()) {
+            result.add(new LiteralNode(literal.toString()));
+        }
+        return result;
+    }
+    
+    private Node parseExpression() {
+        Node result = parseTerm();
+        while (true) {
+            if (accept('+')) {
+                result = new BinaryNode(Operator.PLUS, result, parseTerm());
+            } else if (accept('-')) {
+                result = new BinaryNode(Operator.MINUS, result, parseTerm());
+            } else {
+                return result;
+            }
+        }
+    }
+    
+    private Node parseTerm() {
+        Node result = parseUnary();
+        while (true) {
+            if (accept('*')) {
+                result = new BinaryNode(Operator.MULTIPLY, result, parseUnary());
+            } else if (accept('%')) {
+                result = new BinaryNode(Operator.REMAINDER, result, parseUnary());
+            } else {
+                return result;
+            }
+        }
+    }
+    
+    private Node parseUnary() {
+        return accept('-') ? new NegateNode(parseUnary()) : parsePostfix();
+    }
+    
+    private Node parsePostfix() {
+        Node result = parsePrimary();
+        while (accept('.')) {
+            String method = parseIdentifier();
+            expect('(');
+            if ("hashCode".equals(method)) {
+                expect(')');
+                result = new HashCodeNode(result);
+            } else if ("abs".equals(method)) {
+                expect(')');
+                result = new AbsNode(result);
+            } else if ("substring".equals(method)) {
+                Node beginIndex = parseExpression();
+                Node endIndex = accept(',') ? parseExpression() : null;
+                expect(')');
+                result = new SubstringNode(result, beginIndex, endIndex);
+            } else {
+                throw new UnsupportedInlineExpressionException();
+            }
+        }
+        return result;
+    }
+    
+    private Node parsePrimary() {
+        skipWhitespace();
+        checkSupported(position < inlineExpression.length());
+        char current = inlineExpression.charAt(position);
+        if ('(' == current) {
+            position++;
+            Node result = parseExpression();
+            expect(')');
+            return result;
+        }
+        if ('\'' == current) {
+            return parseStringLiteral();
+        }
+        if (Character.isDigit(current)) {
+            return parseIntegerLiteral();
+        }
+        String identifier = parseIdentifier();
+        if ("Math".equals(identifier)) {
+            expect('.');
+            checkSupported("abs".equals(parseIdentifier()));
+            expect('(');
+            Node result = new AbsNode(parseExpression());
+            expect(')');
+            return result;
+        }
+        checkSupported((Character.isLowerCase(identifier.charAt(0)) || '_' == identifier.charAt(0)) && !RESERVED_IDENTIFIERS.contains(identifier));
+        return new VariableNode(identifier);
+    }
+    
+    private Node parseStringLiteral() {
+        int end = inlineExpression.indexOf('\'', position + 1);
+        checkSupported(end > 0);
+        String result = inlineExpression.substring(position + 1, end);
+        checkSupported(result.chars().noneMatch(each -> '\\' == each || '"' == each || '$' == each || '\n' == each || '\r' == each));
+        position = end + 1;
+        return new LiteralNode(result);
+    }
+    
+    private Node parseIntegerLiteral() {
+        int end = position;
+        while (end < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(end))) {
+            end++;
+        }
+        String literal = inlineExpression.substring(position, end);
+        checkSupported(1 == literal.length() || '0' != literal.charAt(0));
+        position = end;
+        checkSupported(position >= inlineExpression.length() || !Character.isLetter(inlineExpression.charAt(position)) && '_' != inlineExpression.charAt(position));
+        checkSupported(position >= inlineExpression.length() - 1 || '.' != inlineExpression.charAt(position) || !Character.isDigit(inlineExpression.charAt(position + 1)));
+        long result;
+        try {
+            result = Long.parseLong(literal);
+        } catch (final NumberFormatException ignored) {
+            throw new UnsupportedInlineExpressionException();
+        }
+        return new LiteralNode(result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result);
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespace();
+        int start = position;
+        while (position < inlineExpression.length() && (Character.isLetterOrDigit(inlineExpression.charAt(position)) || '_' == inlineExpression.charAt(position))) {
+            position++;
+        }
+        checkSupported(position > start && !Character.isDigit(inlineExpression.charAt(start)));
+        return inlineExpression.substring(start, position);
+    }
+    
+    private boolean accept(final char expected) {
+        skipWhitespace();
+        if (position < inlineExpression.length() && expected == inlineExpression.charAt(position)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private void expect(final char expected) {
+        checkSupported(accept(expected));
+    }
+    
+    private void skipWhitespace() {
+        while (position < inlineExpression.length() && (' ' == inlineExpression.charAt(position) || '\t' == inlineExpression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private void checkSupported(final boolean supported) {
+        if (!supported) {
+            throw new UnsupportedInlineExpressionException();
+        }
+    }
+    
+    private static final class UnsupportedInlineExpressionException extends RuntimeException {
+        
+        private static final long serialVersionUID = -3263285446216733357L;
+    }
+}
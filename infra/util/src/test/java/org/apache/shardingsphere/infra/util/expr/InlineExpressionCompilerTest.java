@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    @Test
+    void assertCompileUnsupportedExpression() {
+        for (String each : Arrays.asList("t_order_${order_id / 2}", "t_order_$order_id", "t_order_${order_id ?: 0}", "t_order_${order_id.toString()}", "t_order_${2L}",
+                "t_order_${010}", "t_order_${1.5}", "t_order_${[0, 1]}", "t_order_${Integer.MAX_VALUE}", "t_order_${it}", "t_order_${order_id", "t_order_${}", "t_\\norder")) {
+            assertFalse(InlineExpressionCompiler.compile(each).isPresent(), each);
+        }
+    }
+    
+    @Test
+    void assertEvaluateLiteral() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.emptyMap()), is(Optional.of("t_order")));
+    }
+    
+    @Test
+    void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id % 2}", "ds_${user_id % 2}_${order_id % 4}", "t_order_${(order_id + 1) * 3 - user_id}",
+                "t_order_${-order_id % 3}", "t_order_${Math.abs(order_id.hashCode()) % 4}", "t_order_${(order_id % 4).abs()}", "t_order_${name.hashCode() % 8}",
+                "t_order_${name.substring(1)}", "t_order_${name.substring(0, 2) + '_' + user_id}", "${'t_' + name + order_id}",
+                "t_order_${order_id * 2147483647}", "t_order_${user_id * 2147483647}", "t_order_${order_id % 4294967296}")) {
+            assertSameAsGroovy(each, createVariables(10L, 7, "abc"));
+            assertSameAsGroovy(each, createVariables(-9223372036854775807L, -3, "xyz"));
+            assertSameAsGroovy(each, createVariables(3, (short) 5, "ab"));
+        }
+    }
+    
+    private Map<String, Object> createVariables(final Object orderId, final Object userId, final String name) {
+        Map<String, Object> result = new HashMap<>(3, 1F);
+        result.put("order_id", orderId);
+        result.put("user_id", userId);
+        result.put("name", name);
+        return result;
+    }
+    
+    private void assertSameAsGroovy(final String inlineExpression, final Map<String, Object> variables) {
+        Optional<CompiledInlineExpression> compiledInlineExpression = InlineExpressionCompiler.compile(inlineExpression);
+        assertTrue(compiledInlineExpression.isPresent(), inlineExpression);
+        Optional<String> actual = compiledInlineExpression.get().evaluate(variables);
+        assertTrue(actual.isPresent(), inlineExpression);
+        assertThat(inlineExpression, actual.get(), is(evaluateWithGroovy(inlineExpression, variables)));
+    }
+    
+    private String evaluateWithGroovy(final String inlineExpression, final Map<String, Object> variables) {
+        Closure<?> closure = new InlineExpressionParser().evaluateClosure(inlineExpression).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, Object> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${order_id % 2}");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("order_id", 1.5D)).isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithInvalidSubstring() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${name.substring(5)}");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("name", "abc")).isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("name", 12345)).isPresent());
+    }
+}
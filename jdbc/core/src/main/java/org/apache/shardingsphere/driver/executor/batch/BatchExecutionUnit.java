@@ -25,11 +25,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Batch execution unit.
@@ -37,14 +35,14 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
-@ToString
+@ToString(exclude = "jdbcAddBatchTimes")
 public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
-    
     @Getter(AccessLevel.NONE)
+    private int[] jdbcAddBatchTimes = new int[16];
+    
     private int actualCallAddBatchTimes;
     
     /**
@@ -53,7 +51,20 @@ public final class BatchExecutionUnit {
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        if (actualCallAddBatchTimes == this.jdbcAddBatchTimes.length) {
+            this.jdbcAddBatchTimes = Arrays.copyOf(this.jdbcAddBatchTimes, actualCallAddBatchTimes << 1);
+        }
+        this.jdbcAddBatchTimes[actualCallAddBatchTimes++] = jdbcAddBatchTimes;
+    }
+    
+    /**
+     * Get times of use JDBC API call addBatch which is mapped to times of actual call addBatch after route.
+     *
+     * @param actualAddBatchTimes times of actual call addBatch after route
+     * @return times of use JDBC API call addBatch
+     */
+    public int getJdbcAddBatchTimes(final int actualAddBatchTimes) {
+        return jdbcAddBatchTimes[actualAddBatchTimes];
     }
     
     /**
@@ -62,12 +73,9 @@ public final class BatchExecutionUnit {
      * @return parameter sets
      */
     public List<List<Object>> getParameterSets() {
-        List<List<Object>> result = new LinkedList<>();
         if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
-            result.add(Collections.emptyList());
-        } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+            return Collections.singletonList(Collections.emptyList());
         }
-        return result;
+        return Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes);
     }
 }
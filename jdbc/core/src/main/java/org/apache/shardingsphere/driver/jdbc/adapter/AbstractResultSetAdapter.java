@@ -83,7 +83,11 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            closeMergedResult();
+        } finally {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        }
     }
     
     @Override
@@ -130,4 +134,6 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     public final void clearWarnings() throws SQLException {
         forceExecuteTemplate.execute(resultSets, ResultSet::clearWarnings);
     }
+    
+    protected abstract void closeMergedResult() throws SQLException;
 }
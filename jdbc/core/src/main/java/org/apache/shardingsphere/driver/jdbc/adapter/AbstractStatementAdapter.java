@@ -175,10 +175,18 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::cancel);
     }
     
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public final void close() throws SQLException {
         closed = true;
+        try {
+            closeCurrentResultSet();
+        } finally {
+            closeRoutedStatements();
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void closeRoutedStatements() throws SQLException {
         try {
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
             if (null != getExecutor()) {
@@ -208,4 +216,6 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     protected abstract DriverExecutor getExecutor();
     
     protected abstract StatementManager getStatementManager();
+    
+    protected abstract void closeCurrentResultSet() throws SQLException;
 }
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.driver.jdbc.core.resultset;
 
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractResultSetAdapter;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.PrefetchStreamQueryResultUtils;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 
@@ -44,6 +46,8 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -60,19 +64,26 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
     
     private final MergedResult mergeResultSet;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final Map<String, Integer> columnLabelAndIndexMap;
     
     public ShardingSphereResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement, final boolean transparentStatement,
                                    final ExecutionContext executionContext) throws SQLException {
-        super(resultSets, statement, transparentStatement, executionContext);
-        this.mergeResultSet = mergeResultSet;
-        columnLabelAndIndexMap = ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(executionContext.getSqlStatementContext(), resultSets.get(0).getMetaData());
+        this(resultSets, mergeResultSet, statement, transparentStatement, executionContext,
+                ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(executionContext.getSqlStatementContext(), resultSets.get(0).getMetaData()));
     }
     
     public ShardingSphereResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement, final boolean transparentStatement,
                                    final ExecutionContext executionContext, final Map<String, Integer> columnLabelAndIndexMap) {
+        this(resultSets, mergeResultSet, Collections.emptyList(), statement, transparentStatement, executionContext, columnLabelAndIndexMap);
+    }
+    
+    public ShardingSphereResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Collection<QueryResult> queryResults, final Statement statement,
+                                   final boolean transparentStatement, final ExecutionContext executionContext, final Map<String, Integer> columnLabelAndIndexMap) {
         super(resultSets, statement, transparentStatement, executionContext);
         this.mergeResultSet = mergeResultSet;
+        this.queryResults = queryResults;
         this.columnLabelAndIndexMap = columnLabelAndIndexMap;
     }
     
@@ -389,6 +400,15 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return getObject(getIndexFromColumnLabelAndIndexMap(columnLabel), type);
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        try {
+            PrefetchStreamQueryResultUtils.close(queryResults);
+        } finally {
+            mergeResultSet.close();
+        }
+    }
+    
     private Integer getIndexFromColumnLabelAndIndexMap(final String columnLabel) throws SQLException {
         Integer result = columnLabelAndIndexMap.get(columnLabel);
         ShardingSpherePreconditions.checkState(null != result, () -> new SQLFeatureNotSupportedException(String.format("Can not get index from column label `%s`.", columnLabel)));
@@ -64,6 +64,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.PrefetchStreamQueryResultUtils;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
@@ -266,12 +267,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 return executeFederationQuery(queryContext);
             }
             executionContext = createExecutionContext(queryContext);
-            List<QueryResult> queryResults = executeQuery0();
+            List<QueryResult> queryResults = PrefetchStreamQueryResultUtils.prefetch(executeQuery0(), metaDataContexts.getMetaData().getProps(), connection.getContextManager().getExecutorEngine());
             MergedResult mergedResult = mergeQuery(queryResults);
             List<ResultSet> resultSets = getResultSets();
             Map<String, Integer> columnLabelAndIndexMap = null != this.columnLabelAndIndexMap ? this.columnLabelAndIndexMap
                     : (this.columnLabelAndIndexMap = ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(sqlStatementContext, resultSets.get(0).getMetaData()));
-            result = new ShardingSphereResultSet(resultSets, mergedResult, this, transparentStatement, executionContext, columnLabelAndIndexMap);
+            result = new ShardingSphereResultSet(resultSets, mergedResult, queryResults, this, transparentStatement, executionContext, columnLabelAndIndexMap);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -549,10 +550,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             if (resultSets.isEmpty()) {
                 return currentResultSet;
             }
-            MergedResult mergedResult = mergeQuery(getQueryResults(resultSets));
+            List<QueryResult> queryResults = PrefetchStreamQueryResultUtils.prefetch(getQueryResults(resultSets), metaDataContexts.getMetaData().getProps(),
+                    connection.getContextManager().getExecutorEngine());
+            MergedResult mergedResult = mergeQuery(queryResults);
             Map<String, Integer> columnLabelAndIndexMap = null != this.columnLabelAndIndexMap ? this.columnLabelAndIndexMap
                     : (this.columnLabelAndIndexMap = ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(sqlStatementContext, resultSets.get(0).getMetaData()));
-            currentResultSet = new ShardingSphereResultSet(resultSets, mergedResult, this, transparentStatement, executionContext, columnLabelAndIndexMap);
+            currentResultSet = new ShardingSphereResultSet(resultSets, mergedResult, queryResults, this, transparentStatement, executionContext, columnLabelAndIndexMap);
         }
         return currentResultSet;
     }
@@ -605,7 +608,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()),
                 metaDataContexts.getMetaData().getProps(), connection.getConnectionManager().getConnectionContext());
-        return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        try {
+            return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        } catch (final SQLException | RuntimeException ex) {
+            PrefetchStreamQueryResultUtils.close(queryResults);
+            throw ex;
+        }
     }
     
     private void cacheStatements(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups) throws SQLException {
@@ -631,7 +639,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
-    private void clearPrevious() {
+    private void clearPrevious() throws SQLException {
+        closeCurrentResultSet();
         statements.clear();
         parameterSets.clear();
         generatedValues.clear();
@@ -710,7 +719,11 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private void setBatchParametersForStatements() throws SQLException {
+        int coalescingMaxParameters = getBatchInsertCoalescingMaxParameters();
         for (Statement each : batchPreparedStatementExecutor.getStatements()) {
+            if (coalescingMaxParameters > 0 && batchPreparedStatementExecutor.coalesce(each, coalescingMaxParameters)) {
+                continue;
+            }
             List<List<Object>> paramSet = batchPreparedStatementExecutor.getParameterSet(each);
             for (List<Object> eachParams : paramSet) {
                 replaySetParameter((PreparedStatement) each, eachParams);
@@ -719,6 +732,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private int getBatchInsertCoalescingMaxParameters() {
+        if (statementOption.isReturnGeneratedKeys() || !(executionContext.getSqlStatementContext() instanceof InsertStatementContext)) {
+            return 0;
+        }
+        return metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_MAX_PARAMETERS);
+    }
+    
     @Override
     public void clearBatch() {
         currentResultSet = null;
@@ -753,4 +773,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public Collection<PreparedStatement> getRoutedStatements() {
         return statements;
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (currentResultSet instanceof ShardingSphereResultSet) {
+            ResultSet resultSet = currentResultSet;
+            currentResultSet = null;
+            resultSet.close();
+        }
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.driver.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.GeneratedKeysResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
+import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSetUtils;
 import org.apache.shardingsphere.driver.jdbc.exception.syntax.EmptySQLException;
 import org.apache.shardingsphere.driver.jdbc.exception.transaction.JDBCTransactionAcrossDatabasesException;
 import org.apache.shardingsphere.infra.binder.QueryContext;
@@ -63,6 +64,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.PrefetchStreamQueryResultUtils;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
@@ -103,6 +105,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -182,10 +185,9 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 return executeFederationQuery(queryContext);
             }
             executionContext = createExecutionContext(queryContext);
-            List<QueryResult> queryResults = executeQuery0();
+            List<QueryResult> queryResults = PrefetchStreamQueryResultUtils.prefetch(executeQuery0(), metaDataContexts.getMetaData().getProps(), connection.getContextManager().getExecutorEngine());
             MergedResult mergedResult = mergeQuery(queryResults);
-            result = new ShardingSphereResultSet(getResultSets(), mergedResult, this, isTransparentStatement(queryContext.getSqlStatementContext(),
-                    metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData()), executionContext);
+            result = createResultSet(getResultSets(), mergedResult, queryResults);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -506,6 +508,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private void clearStatements() throws SQLException {
+        closeCurrentResultSet();
         for (Statement each : statements) {
             each.close();
         }
@@ -634,9 +637,10 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             if (resultSets.isEmpty()) {
                 return currentResultSet;
             }
-            MergedResult mergedResult = mergeQuery(getQueryResults(resultSets));
-            currentResultSet = new ShardingSphereResultSet(resultSets, mergedResult, this, isTransparentStatement(executionContext.getSqlStatementContext(),
-                    metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData()), executionContext);
+            List<QueryResult> queryResults = PrefetchStreamQueryResultUtils.prefetch(getQueryResults(resultSets), metaDataContexts.getMetaData().getProps(),
+                    connection.getContextManager().getExecutorEngine());
+            MergedResult mergedResult = mergeQuery(queryResults);
+            currentResultSet = createResultSet(resultSets, mergedResult, queryResults);
         }
         return currentResultSet;
     }
@@ -664,7 +668,18 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     private MergedResult mergeQuery(final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()),
                 metaDataContexts.getMetaData().getProps(), connection.getConnectionManager().getConnectionContext());
-        return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        try {
+            return mergeEngine.merge(queryResults, executionContext.getSqlStatementContext());
+        } catch (final SQLException | RuntimeException ex) {
+            PrefetchStreamQueryResultUtils.close(queryResults);
+            throw ex;
+        }
+    }
+    
+    private ShardingSphereResultSet createResultSet(final List<ResultSet> resultSets, final MergedResult mergedResult, final List<QueryResult> queryResults) throws SQLException {
+        boolean transparentStatement = isTransparentStatement(executionContext.getSqlStatementContext(), metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData());
+        Map<String, Integer> columnLabelAndIndexMap = ShardingSphereResultSetUtils.createColumnLabelAndIndexMap(executionContext.getSqlStatementContext(), resultSets.get(0).getMetaData());
+        return new ShardingSphereResultSet(resultSets, mergedResult, queryResults, this, transparentStatement, executionContext, columnLabelAndIndexMap);
     }
     
     @SuppressWarnings("MagicConstant")
@@ -695,6 +710,15 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         return statements;
     }
     
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (currentResultSet instanceof ShardingSphereResultSet) {
+            ResultSet resultSet = currentResultSet;
+            currentResultSet = null;
+            resultSet.close();
+        }
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Optional<GeneratedKeyContext> generatedKey = findGeneratedKey();
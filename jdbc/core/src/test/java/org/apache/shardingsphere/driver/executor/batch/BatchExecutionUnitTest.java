@@ -47,6 +47,17 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertGetJdbcAddBatchTimes() {
+        BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.emptyList())));
+        for (int i = 0; i < 100; i++) {
+            actual.mapAddBatchCount(i * 2);
+        }
+        assertThat(actual.getActualCallAddBatchTimes(), is(100));
+        assertThat(actual.getJdbcAddBatchTimes(0), is(0));
+        assertThat(actual.getJdbcAddBatchTimes(99), is(198));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -60,6 +71,6 @@ class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.BatchInsertCoalescer;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for batch insert coalescer.
+ * 
+ * <p>
+ * Rows of a batched single row INSERT statement are executed on H2 in MySQL mode,
+ * either added to batch row by row, or coalesced into multi-row INSERT statements.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchInsertCoalescerBenchmark {
+    
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)";
+    
+    @Param({"100", "1000"})
+    private int rowCount;
+    
+    @Param({"3000", "30000"})
+    private int maxParameters;
+    
+    private Connection connection;
+    
+    private List<List<Object>> parameterSets;
+    
+    private BatchInsertCoalescer coalescer;
+    
+    /**
+     * Set up table, parameter sets and coalescer.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batch_insert_coalescer;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order (order_id BIGINT, user_id INT, status VARCHAR(50))");
+        }
+        parameterSets = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            parameterSets.add(Arrays.asList((long) i, i % 10, "INIT"));
+        }
+        SQLStatement sqlStatement = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()).getSQLParserEngine("MySQL").parse(INSERT_SQL, false);
+        coalescer = BatchInsertCoalescer.create(INSERT_SQL, sqlStatement, 3, maxParameters).orElseThrow(IllegalStateException::new);
+    }
+    
+    /**
+     * Truncate table.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE t_order");
+        }
+    }
+    
+    /**
+     * Drop table and close connection.
+     *
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE t_order");
+        }
+        connection.close();
+    }
+    
+    /**
+     * Add rows to batch row by row.
+     *
+     * @return update counts
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int[] executeRowByRow() throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL)) {
+            for (List<Object> each : parameterSets) {
+                for (int i = 0; i < each.size(); i++) {
+                    preparedStatement.setObject(i + 1, each.get(i));
+                }
+                preparedStatement.addBatch();
+            }
+            return preparedStatement.executeBatch();
+        }
+    }
+    
+    /**
+     * Coalesce rows into multi-row INSERT statements.
+     *
+     * @return update counts
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int[] executeCoalesced() throws SQLException {
+        return coalescer.executeBatch(connection, parameterSets);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for batch prepared statement executor.
+ * 
+ * <p>
+ * Each batch of a single row INSERT statement is routed to one of the shards, and all batches are added before parameter sets of each shard are taken.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchPreparedStatementExecutorBenchmark {
+    
+    @Param({"1000", "10000", "100000"})
+    private int batchCount;
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    private List<Collection<ExecutionUnit>> routedExecutionUnits;
+    
+    /**
+     * Set up routed execution units of each batch.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        routedExecutionUnits = new ArrayList<>(batchCount);
+        for (int i = 0; i < batchCount; i++) {
+            int shardIndex = i % shardCount;
+            String sql = String.format("INSERT INTO t_order_%d (order_id, user_id, status) VALUES (?, ?, ?)", shardIndex);
+            routedExecutionUnits.add(Collections.singletonList(new ExecutionUnit("ds_" + shardIndex % 4, new SQLUnit(sql, Arrays.asList(i, i % 10, "INIT")))));
+        }
+    }
+    
+    /**
+     * Add all batches and get parameter sets of each shard.
+     *
+     * @return parameter set count
+     */
+    @Benchmark
+    public int addBatch() {
+        BatchPreparedStatementExecutor executor = new BatchPreparedStatementExecutor(null, null, "foo_db");
+        for (Collection<ExecutionUnit> each : routedExecutionUnits) {
+            executor.addBatchForExecutionUnits(each);
+        }
+        int result = 0;
+        for (BatchExecutionUnit each : executor.getBatchExecutionUnits()) {
+            result += each.getParameterSets().size();
+        }
+        return result;
+    }
+}
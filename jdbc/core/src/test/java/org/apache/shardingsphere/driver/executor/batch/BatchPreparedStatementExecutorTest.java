@@ -37,6 +37,8 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.traffic.rule.builder.DefaultTrafficRuleConfigurationBuilder;
@@ -57,6 +59,7 @@ import org.mockito.quality.Strictness;
 import javax.sql.DataSource;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -67,10 +70,13 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +86,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO table_x (id) VALUES (?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithCPU();
     
     private BatchPreparedStatementExecutor executor;
@@ -107,10 +115,12 @@ class BatchPreparedStatementExecutorTest {
     
     private MetaDataContexts mockMetaDataContexts() {
         MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
-        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Arrays.asList(mockTransactionRule(), new TrafficRule(new DefaultTrafficRuleConfigurationBuilder().build())));
+        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Arrays.asList(mockTransactionRule(), new TrafficRule(new DefaultTrafficRuleConfigurationBuilder().build()),
+                new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())));
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(result.getMetaData().getDatabase("foo_db").getResourceMetaData().getStorageTypes())
                 .thenReturn(Collections.singletonMap("ds_0", TypedSPILoader.getService(DatabaseType.class, "H2")));
+        when(result.getMetaData().getDatabase("foo_db").getResourceMetaData().getStorageType("ds_0")).thenReturn(TypedSPILoader.getService(DatabaseType.class, "H2"));
         ShardingSphereRuleMetaData databaseRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getMetaData().getDatabase("foo_db").getRuleMetaData()).thenReturn(databaseRuleMetaData);
         return result;
@@ -191,6 +201,67 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1)))));
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2)))));
+        executor.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(3)))));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actual.get(0).getJdbcAddBatchTimes(0), is(0));
+        assertThat(actual.get(0).getJdbcAddBatchTimes(1), is(2));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Collections.singletonList(2))));
+        assertThat(actual.get(1).getJdbcAddBatchTimes(0), is(1));
+    }
+    
+    @Test
+    void assertExecuteBatchWithCoalescedInsert() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        PreparedStatement coalescedStatement = mock(PreparedStatement.class);
+        when(coalescedStatement.executeBatch()).thenReturn(new int[]{2});
+        when(preparedStatement.getConnection().prepareStatement("INSERT INTO table_x (id) VALUES (?), (?)")).thenReturn(coalescedStatement);
+        setInsertExecutionGroup(preparedStatement);
+        assertTrue(executor.coalesce(preparedStatement, 2));
+        assertThat(executor.executeBatch(sqlStatementContext), is(new int[]{1, 1}));
+        verify(coalescedStatement).setObject(1, 1);
+        verify(coalescedStatement).setObject(2, 2);
+        verify(preparedStatement, never()).executeBatch();
+    }
+    
+    @Test
+    void assertCoalesceWithTooFewMaxParameters() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        setInsertExecutionGroup(preparedStatement);
+        assertFalse(executor.coalesce(preparedStatement, 1));
+    }
+    
+    @Test
+    void assertCoalesceWithTrailingComment() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        setInsertExecutionGroup(preparedStatement, INSERT_SQL + " /* ) */");
+        assertFalse(executor.coalesce(preparedStatement, 2));
+    }
+    
+    @Test
+    void assertCoalesceWithOnDuplicateKeyUpdate() throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        setInsertExecutionGroup(preparedStatement, INSERT_SQL + " ON DUPLICATE KEY UPDATE id = VALUES(id)");
+        assertFalse(executor.coalesce(preparedStatement, 2));
+    }
+    
+    private void setInsertExecutionGroup(final PreparedStatement preparedStatement) {
+        setInsertExecutionGroup(preparedStatement, INSERT_SQL);
+    }
+    
+    private void setInsertExecutionGroup(final PreparedStatement preparedStatement, final String sql) {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, new LinkedList<>(Arrays.asList(1, 2)))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapAddBatchCount(1);
+        JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, Arrays.asList(1, 2))), ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+        setFields(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(executionUnit))), new LinkedList<>(Collections.singletonList(batchExecutionUnit)));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -216,7 +287,9 @@ class BatchPreparedStatementExecutorTest {
     private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext("logic_db")));
-        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
+        Map<ExecutionUnit, BatchExecutionUnit> indexedBatchExecutionUnits = new LinkedHashMap<>();
+        batchExecutionUnits.forEach(each -> indexedBatchExecutionUnits.putIfAbsent(each.getExecutionUnit(), each));
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, indexedBatchExecutionUnits);
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 2);
     }
 }
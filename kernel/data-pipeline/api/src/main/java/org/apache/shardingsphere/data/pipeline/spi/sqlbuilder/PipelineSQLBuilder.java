@@ -179,6 +179,28 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String uniqueKey);
     
+    /**
+     * Build unique key min and max values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return min and max values SQL
+     */
+    String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
+    
+    /**
+     * Build unique key range limited count SQL.
+     *
+     * <p>Parameters are begin value and end value of unique key range, and max records count to be counted.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key range limited count SQL
+     */
+    String buildUniqueKeyRangeLimitedCountSQL(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.data.pipeline.api.check.consistency;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 /**
@@ -37,4 +39,14 @@ public interface DataConsistencyCalculatedResult {
      * @return max unique key value
      */
     Optional<Object> getMaxUniqueKeyValue();
+    
+    /**
+     * Locate differences with calculated result of peer side.
+     *
+     * @param peerCalculatedResult calculated result of peer side
+     * @return differences, empty means differences could not be located
+     */
+    default Collection<String> locateDifferences(final DataConsistencyCalculatedResult peerCalculatedResult) {
+        return Collections.emptyList();
+    }
 }
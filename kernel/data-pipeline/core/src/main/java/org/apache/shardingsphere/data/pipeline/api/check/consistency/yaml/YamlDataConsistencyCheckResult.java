@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
 
+import java.util.Collection;
+
 /**
  * Yaml data consistency check result config.
  */
@@ -56,5 +58,7 @@ public final class YamlDataConsistencyCheckResult implements YamlConfiguration {
     public static class YamlDataConsistencyContentCheckResult implements YamlConfiguration {
         
         private boolean matched;
+        
+        private Collection<String> differences;
     }
 }
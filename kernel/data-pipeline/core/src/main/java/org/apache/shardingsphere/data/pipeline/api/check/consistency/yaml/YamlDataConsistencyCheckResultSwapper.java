@@ -46,6 +46,9 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
         result.setCountCheckResult(countCheckResult);
         YamlDataConsistencyContentCheckResult contentCheckResult = new YamlDataConsistencyContentCheckResult();
         contentCheckResult.setMatched(data.getContentCheckResult().isMatched());
+        if (!data.getContentCheckResult().getDifferences().isEmpty()) {
+            contentCheckResult.setDifferences(data.getContentCheckResult().getDifferences());
+        }
         result.setContentCheckResult(contentCheckResult);
         return result;
     }
@@ -60,7 +63,10 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
         }
         YamlDataConsistencyCountCheckResult yamlCountCheck = yamlConfig.getCountCheckResult();
         DataConsistencyCountCheckResult countCheckResult = new DataConsistencyCountCheckResult(yamlCountCheck.getSourceRecordsCount(), yamlCountCheck.getTargetRecordsCount());
-        DataConsistencyContentCheckResult contentCheckResult = new DataConsistencyContentCheckResult(yamlConfig.getContentCheckResult().isMatched());
+        YamlDataConsistencyContentCheckResult yamlContentCheck = yamlConfig.getContentCheckResult();
+        DataConsistencyContentCheckResult contentCheckResult = null == yamlContentCheck.getDifferences()
+                ? new DataConsistencyContentCheckResult(yamlContentCheck.isMatched())
+                : new DataConsistencyContentCheckResult(yamlContentCheck.isMatched(), yamlContentCheck.getDifferences());
         return new DataConsistencyCheckResult(countCheckResult, contentCheckResult);
     }
     
@@ -19,9 +19,13 @@ package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.sql.SQLXML;
 
 /**
  * Data consistency check utility class.
@@ -29,6 +33,44 @@ import java.math.RoundingMode;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DataConsistencyCheckUtils {
     
+    /**
+     * Check two column values whether matched or not.
+     *
+     * @param equalsBuilder equals builder
+     * @param thisColumnValue this column value
+     * @param thatColumnValue that column value
+     * @return matched or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isMatched(final EqualsBuilder equalsBuilder, final Object thisColumnValue, final Object thatColumnValue) throws SQLException {
+        if (thisColumnValue instanceof SQLXML && thatColumnValue instanceof SQLXML) {
+            return ((SQLXML) thisColumnValue).getString().equals(((SQLXML) thatColumnValue).getString());
+        }
+        if (thisColumnValue instanceof BigDecimal && thatColumnValue instanceof BigDecimal) {
+            return isBigDecimalEquals((BigDecimal) thisColumnValue, (BigDecimal) thatColumnValue);
+        }
+        return equalsBuilder.append(thisColumnValue, thatColumnValue).isEquals();
+    }
+    
+    /**
+     * Get hash code of column value.
+     *
+     * <p>Column values matched by {@link #isMatched(EqualsBuilder, Object, Object)} have same hash code.</p>
+     *
+     * @param columnValue column value
+     * @return hash code
+     * @throws SQLException SQL exception
+     */
+    public static int hashColumnValue(final Object columnValue) throws SQLException {
+        if (columnValue instanceof SQLXML) {
+            return ((SQLXML) columnValue).getString().hashCode();
+        }
+        if (columnValue instanceof BigDecimal) {
+            return ((BigDecimal) columnValue).stripTrailingZeros().hashCode();
+        }
+        return new HashCodeBuilder(17, 37).append(columnValue).toHashCode();
+    }
+    
     /**
      * Check two BigDecimal whether equals or not.
      *
@@ -41,13 +41,11 @@ import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
-import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.SQLXML;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -257,15 +255,7 @@ public final class DataMatchDataConsistencyCalculateAlgorithm extends AbstractSt
                     ++columnIndex;
                     Object thisResult = thisNextIterator.next();
                     Object thatResult = thatNextIterator.next();
-                    boolean matched;
-                    if (thisResult instanceof SQLXML && thatResult instanceof SQLXML) {
-                        matched = ((SQLXML) thisResult).getString().equals(((SQLXML) thatResult).getString());
-                    } else if (thisResult instanceof BigDecimal && thatResult instanceof BigDecimal) {
-                        matched = DataConsistencyCheckUtils.isBigDecimalEquals((BigDecimal) thisResult, (BigDecimal) thatResult);
-                    } else {
-                        matched = equalsBuilder.append(thisResult, thatResult).isEquals();
-                    }
-                    if (!matched) {
+                    if (!DataConsistencyCheckUtils.isMatched(equalsBuilder, thisResult, thatResult)) {
                         log.warn("record column value not match, columnIndex={}, value1={}, value2={}, value1.class={}, value2.class={}, record1={}, record2={}", columnIndex, thisResult, thatResult,
                                 null != thisResult ? thisResult.getClass().getName() : "", null != thatResult ? thatResult.getClass().getName() : "",
                                 thisNext, thatNext);
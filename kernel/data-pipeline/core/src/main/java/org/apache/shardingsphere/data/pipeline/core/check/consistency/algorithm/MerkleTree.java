@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Merkle tree of unique key ranges.
+ * 
+ * <p>
+ * Leaf covers <code>2^leafBits</code> unique key values and parent covers <code>2^fanOutBits</code> children, so trees of two sides are aligned without coordination.
+ * Hash of node is the sum of records hash, ranges could be calculated in parallel and merged in any order.
+ * </p>
+ */
+public final class MerkleTree {
+    
+    @Getter
+    private final int leafBits;
+    
+    private final int fanOutBits;
+    
+    private final List<NavigableMap<Long, MerkleTreeNode>> levels;
+    
+    public MerkleTree(final int leafBits, final int fanOutBits, final Map<Long, MerkleTreeNode> leaves) {
+        this.leafBits = leafBits;
+        this.fanOutBits = fanOutBits;
+        levels = buildLevels(new TreeMap<>(leaves));
+    }
+    
+    private List<NavigableMap<Long, MerkleTreeNode>> buildLevels(final NavigableMap<Long, MerkleTreeNode> leaves) {
+        List<NavigableMap<Long, MerkleTreeNode>> result = new ArrayList<>();
+        result.add(leaves);
+        NavigableMap<Long, MerkleTreeNode> children = leaves;
+        for (int remainingBits = Long.SIZE - leafBits; remainingBits > 0; remainingBits -= fanOutBits) {
+            NavigableMap<Long, MerkleTreeNode> parents = new TreeMap<>();
+            for (Entry<Long, MerkleTreeNode> entry : children.entrySet()) {
+                parents.computeIfAbsent(entry.getKey() >> fanOutBits, key -> new MerkleTreeNode()).merge(entry.getValue());
+            }
+            result.add(parents);
+            children = parents;
+        }
+        return result;
+    }
+    
+    /**
+     * Get leaf ID of unique key value.
+     *
+     * @param uniqueKeyValue unique key value
+     * @param leafBits leaf bits
+     * @return leaf ID
+     */
+    public static long getLeafId(final long uniqueKeyValue, final int leafBits) {
+        return uniqueKeyValue >> leafBits;
+    }
+    
+    /**
+     * Get root nodes.
+     * 
+     * <p>There are two roots at most, one for negative unique key values and one for others.</p>
+     *
+     * @return root nodes
+     */
+    public Map<Long, MerkleTreeNode> getRootNodes() {
+        return levels.get(levels.size() - 1);
+    }
+    
+    /**
+     * Get records count.
+     *
+     * @return records count
+     */
+    public long getRecordsCount() {
+        return getRootNodes().values().stream().mapToLong(MerkleTreeNode::getRecordsCount).sum();
+    }
+    
+    /**
+     * Get begin unique key value of leaf.
+     *
+     * @param leafId leaf ID
+     * @return begin unique key value, inclusive
+     */
+    public long getLeafBeginValue(final long leafId) {
+        return leafId << leafBits;
+    }
+    
+    /**
+     * Get end unique key value of leaf.
+     *
+     * @param leafId leaf ID
+     * @return end unique key value, inclusive
+     */
+    public long getLeafEndValue(final long leafId) {
+        return (leafId << leafBits) | ((1L << leafBits) - 1L);
+    }
+    
+    /**
+     * Coarsen leaves to wider unique key ranges.
+     *
+     * @param coarserLeafBits leaf bits of coarser tree
+     * @return coarser Merkle tree
+     */
+    public MerkleTree coarsen(final int coarserLeafBits) {
+        Preconditions.checkArgument(coarserLeafBits >= leafBits, "Coarser leaf bits `%s` is less than leaf bits `%s`.", coarserLeafBits, leafBits);
+        if (coarserLeafBits == leafBits) {
+            return this;
+        }
+        Map<Long, MerkleTreeNode> coarserLeaves = new TreeMap<>();
+        for (Entry<Long, MerkleTreeNode> entry : levels.get(0).entrySet()) {
+            coarserLeaves.computeIfAbsent(entry.getKey() >> (coarserLeafBits - leafBits), key -> new MerkleTreeNode()).merge(entry.getValue());
+        }
+        return new MerkleTree(coarserLeafBits, fanOutBits, coarserLeaves);
+    }
+    
+    /**
+     * Find IDs of different leaves.
+     * 
+     * <p>Only subtrees whose nodes are different will be descended into.</p>
+     *
+     * @param peer Merkle tree of peer side
+     * @return IDs of different leaves in ascending order
+     */
+    public Collection<Long> findDifferentLeafIds(final MerkleTree peer) {
+        Preconditions.checkArgument(leafBits == peer.leafBits && fanOutBits == peer.fanOutBits, "Merkle trees are not aligned.");
+        Collection<Long> candidateIds = new TreeSet<>(getRootNodes().keySet());
+        candidateIds.addAll(peer.getRootNodes().keySet());
+        for (int level = levels.size() - 1; level >= 0; level--) {
+            Collection<Long> differentIds = findDifferentIds(peer, level, candidateIds);
+            if (0 == level || differentIds.isEmpty()) {
+                return differentIds;
+            }
+            candidateIds = new TreeSet<>();
+            for (long each : differentIds) {
+                candidateIds.addAll(getChildIds(level - 1, each));
+                candidateIds.addAll(peer.getChildIds(level - 1, each));
+            }
+        }
+        return candidateIds;
+    }
+    
+    private Collection<Long> findDifferentIds(final MerkleTree peer, final int level, final Collection<Long> candidateIds) {
+        Collection<Long> result = new ArrayList<>(candidateIds.size());
+        for (long each : candidateIds) {
+            if (!Objects.equals(levels.get(level).get(each), peer.levels.get(level).get(each))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<Long> getChildIds(final int childLevel, final long parentId) {
+        long firstChildId = parentId << fanOutBits;
+        return levels.get(childLevel).subMap(firstChildId, true, firstChildId | ((1L << fanOutBits) - 1L), true).keySet();
+    }
+    
+    /**
+     * Merkle tree node.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    public static final class MerkleTreeNode {
+        
+        private long recordsCount;
+        
+        private long hash;
+        
+        /**
+         * Add record hash.
+         *
+         * @param recordHash record hash
+         */
+        public void add(final long recordHash) {
+            recordsCount++;
+            hash += recordHash;
+        }
+        
+        /**
+         * Merge node.
+         *
+         * @param node node to be merged
+         */
+        public void merge(final MerkleTreeNode node) {
+            recordsCount += node.recordsCount;
+            hash += node.hash;
+        }
+    }
+}
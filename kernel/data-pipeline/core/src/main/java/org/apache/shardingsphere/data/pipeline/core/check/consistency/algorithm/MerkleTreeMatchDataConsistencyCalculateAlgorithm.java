@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.primitives.Ints;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.DataConsistencyCheckUtils;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.MerkleTree.MerkleTreeNode;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineSQLException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.util.JDBCStreamQueryUtils;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Merkle tree match data consistency calculate algorithm.
+ * 
+ * <p>
+ * Records are hashed into leaves of integer unique key ranges by parallel range scans and leaves are built into {@link MerkleTree}.
+ * If trees of two sides are different, only different subtrees are descended into, then records of different leaves are reloaded to locate different records.
+ * </p>
+ */
+@SPIDescription("Match Merkle tree of unique key ranges and locate different records.")
+@Slf4j
+public final class MerkleTreeMatchDataConsistencyCalculateAlgorithm extends AbstractDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = ShardingSphereServiceLoader
+            .getServiceInstances(DatabaseType.class).stream().map(DatabaseType::getType).collect(Collectors.toList());
+    
+    private static final String MAX_LEAF_COUNT_KEY = "max-leaf-count";
+    
+    private static final int DEFAULT_MAX_LEAF_COUNT = 1 << 20;
+    
+    private static final String FAN_OUT_KEY = "fan-out";
+    
+    private static final int DEFAULT_FAN_OUT = 16;
+    
+    private static final String WORKER_COUNT_KEY = "worker-count";
+    
+    private static final int DEFAULT_WORKER_COUNT = 4;
+    
+    private static final String MAX_DIFFERENCE_COUNT_KEY = "max-difference-count";
+    
+    private static final int DEFAULT_MAX_DIFFERENCE_COUNT = 100;
+    
+    private static final int RANGES_PER_WORKER = 4;
+    
+    private static final int FETCH_SIZE = 1000;
+    
+    private static final int MAX_LEAF_BITS = 62;
+    
+    private int maxLeafCount;
+    
+    private int fanOutBits;
+    
+    private int workerCount;
+    
+    private int maxDifferenceCount;
+    
+    @Override
+    public void init(final Properties props) {
+        maxLeafCount = getPositiveInt(props, MAX_LEAF_COUNT_KEY, DEFAULT_MAX_LEAF_COUNT);
+        fanOutBits = Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(2, getPositiveInt(props, FAN_OUT_KEY, DEFAULT_FAN_OUT))));
+        workerCount = getPositiveInt(props, WORKER_COUNT_KEY, DEFAULT_WORKER_COUNT);
+        maxDifferenceCount = getPositiveInt(props, MAX_DIFFERENCE_COUNT_KEY, DEFAULT_MAX_DIFFERENCE_COUNT);
+    }
+    
+    private int getPositiveInt(final Properties props, final String key, final int defaultValue) {
+        int result = Integer.parseInt(props.getProperty(key, defaultValue + ""));
+        if (result <= 0) {
+            log.warn("Invalid {}={}, use default value", key, result);
+            return defaultValue;
+        }
+        return result;
+    }
+    
+    @Override
+    public Iterable<DataConsistencyCalculatedResult> calculate(final DataConsistencyCalculateParameter param) {
+        if (null == param.getUniqueKey() || !PipelineJdbcUtils.isIntegerColumn(param.getUniqueKey().getDataType())) {
+            throw new UnsupportedOperationException("Data consistency of MERKLE_TREE_MATCH type only support table with integer unique key or primary key now");
+        }
+        Optional<UniqueKeyRange> uniqueKeyRange = loadUniqueKeyRange(param);
+        if (!uniqueKeyRange.isPresent()) {
+            return Collections.singletonList(new CalculatedResult(param, new MerkleTree(0, fanOutBits, Collections.emptyMap()), null));
+        }
+        int leafBits = getLeafBits(uniqueKeyRange.get());
+        MerkleTree merkleTree = new MerkleTree(leafBits, fanOutBits, calculateLeaves(param, uniqueKeyRange.get(), leafBits));
+        return Collections.singletonList(new CalculatedResult(param, merkleTree, uniqueKeyRange.get().getEnd()));
+    }
+    
+    private Optional<UniqueKeyRange> loadUniqueKeyRange(final DataConsistencyCalculateParameter param) {
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        String sql = sqlBuilder.buildUniqueKeyMinMaxValuesSQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName());
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long minValue = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                return Optional.empty();
+            }
+            long maxValue = resultSet.getLong(2);
+            Object tableCheckPosition = param.getTableCheckPosition();
+            long beginValue = null == tableCheckPosition ? minValue : Math.max(minValue, ((Number) tableCheckPosition).longValue() + 1L);
+            return beginValue > maxValue ? Optional.empty() : Optional.of(new UniqueKeyRange(beginValue, maxValue));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private int getLeafBits(final UniqueKeyRange uniqueKeyRange) {
+        long span = uniqueKeyRange.getSpan();
+        int result = 0;
+        while (result < MAX_LEAF_BITS && span >>> result >= maxLeafCount) {
+            result++;
+        }
+        return result;
+    }
+    
+    private Map<Long, MerkleTreeNode> calculateLeaves(final DataConsistencyCalculateParameter param, final UniqueKeyRange uniqueKeyRange, final int leafBits) {
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, ExecutorThreadFactoryBuilder.build("merkle-tree-calculate-%d"));
+        try {
+            Collection<Future<Map<Long, MerkleTreeNode>>> futures = new LinkedList<>();
+            for (UniqueKeyRange each : uniqueKeyRange.split(workerCount * RANGES_PER_WORKER)) {
+                futures.add(executor.submit(() -> calculateLeaves(param, each, leafBits, new HashMap<>())));
+            }
+            Map<Long, MerkleTreeNode> result = new HashMap<>();
+            for (Future<Map<Long, MerkleTreeNode>> each : futures) {
+                for (Entry<Long, MerkleTreeNode> entry : waitFuture(param, each).entrySet()) {
+                    result.computeIfAbsent(entry.getKey(), key -> new MerkleTreeNode()).merge(entry.getValue());
+                }
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Map<Long, MerkleTreeNode> calculateLeaves(final DataConsistencyCalculateParameter param, final UniqueKeyRange uniqueKeyRange, final int leafBits, final Map<Long, MerkleTreeNode> leaves) {
+        scanRecords(param, uniqueKeyRange, (uniqueKeyValue, recordHash) -> leaves.computeIfAbsent(MerkleTree.getLeafId(uniqueKeyValue, leafBits), key -> new MerkleTreeNode()).add(recordHash));
+        return leaves;
+    }
+    
+    private <T> T waitFuture(final DataConsistencyCalculateParameter param, final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private void scanRecords(final DataConsistencyCalculateParameter param, final UniqueKeyRange uniqueKeyRange, final BiConsumer<Long, Long> recordHashConsumer) {
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        String sql = sqlBuilder.buildDivisibleInventoryDumpSQL(param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(), param.getUniqueKey().getName());
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, param.getDatabaseType());
+        ColumnValueReader columnValueReader = PipelineTypedSPILoader.getDatabaseTypedService(ColumnValueReader.class, param.getDatabaseType());
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(JDBCStreamQueryUtils.generateStreamQueryPreparedStatement(databaseType, connection, sql))) {
+            if (!(databaseType instanceof MySQLDatabaseType)) {
+                preparedStatement.setFetchSize(FETCH_SIZE);
+            }
+            preparedStatement.setLong(1, uniqueKeyRange.getBegin());
+            preparedStatement.setLong(2, uniqueKeyRange.getEnd());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                int uniqueKeyColumnIndex = param.getUniqueKey().getOrdinalPosition();
+                while (resultSet.next()) {
+                    ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+                    long recordHash = columnCount;
+                    long uniqueKeyValue = 0L;
+                    for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                        Object value = columnValueReader.readValue(resultSet, resultSetMetaData, columnIndex);
+                        recordHash = mix(recordHash * 31L + DataConsistencyCheckUtils.hashColumnValue(value));
+                        if (columnIndex == uniqueKeyColumnIndex) {
+                            uniqueKeyValue = ((Number) value).longValue();
+                        }
+                    }
+                    recordHashConsumer.accept(uniqueKeyValue, recordHash);
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private long mix(final long value) {
+        long result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return result ^ (result >>> 33);
+    }
+    
+    @Override
+    public String getType() {
+        return "MERKLE_TREE_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UniqueKeyRange {
+        
+        private final long begin;
+        
+        private final long end;
+        
+        long getSpan() {
+            long result = end - begin;
+            return result < 0L ? Long.MAX_VALUE : result;
+        }
+        
+        Collection<UniqueKeyRange> split(final int count) {
+            long rangeSize = getSpan() / count + 1L;
+            Collection<UniqueKeyRange> result = new LinkedList<>();
+            long rangeBegin = begin;
+            while (true) {
+                long rangeEnd = end - rangeBegin < rangeSize ? end : rangeBegin + rangeSize - 1L;
+                result.add(new UniqueKeyRange(rangeBegin, rangeEnd));
+                if (rangeEnd == end) {
+                    return result;
+                }
+                rangeBegin = rangeEnd + 1L;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        private final DataConsistencyCalculateParameter param;
+        
+        @Getter
+        private final MerkleTree merkleTree;
+        
+        private final Long maxUniqueKeyValue;
+        
+        @Override
+        public int getRecordsCount() {
+            return Ints.saturatedCast(merkleTree.getRecordsCount());
+        }
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.ofNullable(maxUniqueKeyValue);
+        }
+        
+        @Override
+        public Collection<String> locateDifferences(final DataConsistencyCalculatedResult peerCalculatedResult) {
+            if (!(peerCalculatedResult instanceof CalculatedResult)) {
+                return Collections.emptyList();
+            }
+            MerkleTree peerMerkleTree = ((CalculatedResult) peerCalculatedResult).merkleTree;
+            int leafBits = Math.max(merkleTree.getLeafBits(), peerMerkleTree.getLeafBits());
+            MerkleTree thisTree = merkleTree.coarsen(leafBits);
+            Collection<String> result = new LinkedList<>();
+            for (long each : thisTree.findDifferentLeafIds(peerMerkleTree.coarsen(leafBits))) {
+                if (result.size() >= maxDifferenceCount) {
+                    log.info("Located differences exceed {}, ignore the others", maxDifferenceCount);
+                    break;
+                }
+                UniqueKeyRange leafRange = new UniqueKeyRange(thisTree.getLeafBeginValue(each), thisTree.getLeafEndValue(each));
+                Collection<String> leafDifferences = locateDifferences(leafRange, ((CalculatedResult) peerCalculatedResult).param);
+                if (leafDifferences.isEmpty()) {
+                    result.add(String.format("%s in [%d, %d] mismatched", param.getUniqueKey().getName(), leafRange.getBegin(), leafRange.getEnd()));
+                }
+                leafDifferences.stream().limit(maxDifferenceCount - result.size()).forEach(result::add);
+            }
+            return result;
+        }
+        
+        private Collection<String> locateDifferences(final UniqueKeyRange leafRange, final DataConsistencyCalculateParameter peerParam) {
+            Map<Long, Long> recordHashes = new TreeMap<>();
+            scanRecords(param, leafRange, recordHashes::put);
+            Map<Long, Long> peerRecordHashes = new TreeMap<>();
+            scanRecords(peerParam, leafRange, peerRecordHashes::put);
+            Collection<String> result = new LinkedList<>();
+            String uniqueKeyName = param.getUniqueKey().getName();
+            for (Entry<Long, Long> entry : recordHashes.entrySet()) {
+                Long peerRecordHash = peerRecordHashes.remove(entry.getKey());
+                if (null == peerRecordHash) {
+                    result.add(String.format("%s=%d only exists in source", uniqueKeyName, entry.getKey()));
+                } else if (!peerRecordHash.equals(entry.getValue())) {
+                    result.add(String.format("%s=%d content mismatched", uniqueKeyName, entry.getKey()));
+                }
+            }
+            for (Long each : peerRecordHashes.keySet()) {
+                result.add(String.format("%s=%d only exists in target", uniqueKeyName, each));
+            }
+            return result;
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculatedResult)) {
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (!merkleTree.getRootNodes().equals(that.merkleTree.getRootNodes())) {
+                log.info("Merkle tree roots not match, roots1={}, roots2={}", merkleTree.getRootNodes(), that.merkleTree.getRootNodes());
+                return false;
+            }
+            return true;
+        }
+        
+        @Override
+        public int hashCode() {
+            return merkleTree.getRootNodes().hashCode();
+        }
+    }
+}
@@ -48,7 +48,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -204,7 +208,25 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> groupedDataRecords = new LinkedHashMap<>();
+        List<DataRecord> uniqueKeyUpdatedDataRecords = new LinkedList<>();
         for (DataRecord each : dataRecords) {
+            if (RecordUtils.extractPrimaryColumns(each).stream().anyMatch(Column::isUpdated)) {
+                uniqueKeyUpdatedDataRecords.add(each);
+                continue;
+            }
+            List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
+            groupedDataRecords.computeIfAbsent(pipelineSqlBuilder.buildUpdateSQL(getSchemaName(each.getTableName()), each, conditionColumns), key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : groupedDataRecords.entrySet()) {
+            if (1 == entry.getValue().size()) {
+                executeUpdate(connection, entry.getValue().get(0));
+            } else {
+                executeBatchUpdate(connection, entry.getKey(), entry.getValue());
+            }
+        }
+        // Records updating unique key might depend on each other, keep them applied one by one in merged order
+        for (DataRecord each : uniqueKeyUpdatedDataRecords) {
             executeUpdate(connection, each);
         }
     }
@@ -216,13 +238,7 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(record.getTableName()), record, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
             updateStatement = preparedStatement;
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.isUniqueKey() && keyColumn.isUpdated() ? keyColumn.getOldValue() : keyColumn.getValue());
-            }
+            setUpdateParameters(preparedStatement, updatedColumns, conditionColumns);
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
                 log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
@@ -232,6 +248,36 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
+            updateStatement = preparedStatement;
+            preparedStatement.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                setUpdateParameters(preparedStatement, pipelineSqlBuilder.extractUpdatedColumns(each),
+                        RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName())));
+                preparedStatement.addBatch();
+            }
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("executeBatchUpdate failed, updateCount={}, updateSql={}, dataRecord={}", updateCounts[i], updateSql, dataRecords.get(i));
+                }
+            }
+        } finally {
+            updateStatement = null;
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final List<Column> updatedColumns, final List<Column> conditionColumns) throws SQLException {
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.isUniqueKey() && keyColumn.isUpdated() ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
@@ -24,9 +24,10 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -39,11 +40,13 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final List<PipelineChannel> channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        channels = IntStream.range(0, channelNumber).mapToObj(each -> new RingBufferMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
     }
     
     @Override
@@ -77,28 +80,15 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
-    }
-    
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
+        return channels.get(channelAssignment.computeIfAbsent(Thread.currentThread().getId(), key -> assignChannel()));
     }
     
-    private void assignmentChannel(final String threadId) {
-        for (int i = 0; i < channels.size(); i++) {
-            if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
-                return;
-            }
+    private int assignChannel() {
+        int result = assignedChannelCount.getAndIncrement();
+        if (result >= channelNumber) {
+            throw new IllegalStateException(String.format("All %d channels have been assigned, can not assign channel to thread `%s`", channelNumber, Thread.currentThread().getName()));
         }
+        return result;
     }
     
     @Override
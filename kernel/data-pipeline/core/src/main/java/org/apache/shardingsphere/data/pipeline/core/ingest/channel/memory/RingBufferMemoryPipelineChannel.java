@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer memory pipeline channel.
+ * 
+ * <p>
+ * Records are kept in a lock-free bounded ring buffer, every slot carries a sequence which tells whether it could be written or read.
+ * Lock is only taken when consumer waits for a batch or producer waits for free slots, and the other side only signals when someone is waiting.
+ * </p>
+ */
+public final class RingBufferMemoryPipelineChannel implements PipelineChannel {
+    
+    private final int capacity;
+    
+    private final int mask;
+    
+    private final AtomicReferenceArray<Record> records;
+    
+    private final AtomicLongArray sequences;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private final AckCallback ackCallback;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notEnough = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private volatile int waitingBatchSize;
+    
+    private volatile int waitingProducers;
+    
+    public RingBufferMemoryPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        capacity = ceilingPowerOfTwo(bufferSize);
+        mask = capacity - 1;
+        records = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.ackCallback = ackCallback;
+    }
+    
+    private static int ceilingPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    @Override
+    public void pushRecord(final Record record) {
+        while (!offer(record)) {
+            awaitNotFull(record);
+        }
+        int batchSize = waitingBatchSize;
+        if (batchSize > 0 && size() >= batchSize) {
+            signal(notEnough);
+        }
+    }
+    
+    private boolean offer(final Record record) {
+        long sequence = writeSequence.get();
+        while (true) {
+            int index = (int) sequence & mask;
+            long difference = sequences.get(index) - sequence;
+            if (0L == difference) {
+                if (writeSequence.compareAndSet(sequence, sequence + 1L)) {
+                    records.lazySet(index, record);
+                    sequences.set(index, sequence + 1L);
+                    return true;
+                }
+                sequence = writeSequence.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                sequence = writeSequence.get();
+            }
+        }
+    }
+    
+    private void awaitNotFull(final Record record) {
+        lock.lock();
+        try {
+            waitingProducers++;
+            if (size() >= capacity) {
+                notFull.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("put " + record + " into ring buffer failed", ex);
+        } finally {
+            waitingProducers--;
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        if (size() < batchSize) {
+            awaitEnough(batchSize, TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        }
+        List<Record> result = new ArrayList<>(Math.min(batchSize, capacity));
+        Record record;
+        while (result.size() < batchSize && null != (record = poll())) {
+            result.add(record);
+        }
+        if (!result.isEmpty() && waitingProducers > 0) {
+            signal(notFull);
+        }
+        return result;
+    }
+    
+    private void awaitEnough(final int batchSize, final long timeoutNanos) {
+        long remainingNanos = timeoutNanos;
+        lock.lock();
+        try {
+            waitingBatchSize = batchSize;
+            while (size() < batchSize && remainingNanos > 0L) {
+                remainingNanos = notEnough.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waitingBatchSize = 0;
+            lock.unlock();
+        }
+    }
+    
+    private Record poll() {
+        long sequence = readSequence.get();
+        while (true) {
+            int index = (int) sequence & mask;
+            long difference = sequences.get(index) - (sequence + 1L);
+            if (0L == difference) {
+                if (readSequence.compareAndSet(sequence, sequence + 1L)) {
+                    Record result = records.get(index);
+                    records.lazySet(index, null);
+                    sequences.set(index, sequence + capacity);
+                    return result;
+                }
+                sequence = readSequence.get();
+            } else if (difference < 0L) {
+                return null;
+            } else {
+                sequence = readSequence.get();
+            }
+        }
+    }
+    
+    private void signal(final Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private int size() {
+        return (int) Math.max(0L, writeSequence.get() - readSequence.get());
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        Record record = poll();
+        while (null != record) {
+            record = poll();
+        }
+        signal(notFull);
+    }
+}
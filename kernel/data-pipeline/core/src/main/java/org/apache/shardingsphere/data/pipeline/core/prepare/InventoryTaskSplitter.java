@@ -38,6 +38,7 @@ import org.apache.shardingsphere.data.pipeline.core.context.InventoryIncremental
 import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByUniqueKeyException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
+import org.apache.shardingsphere.data.pipeline.core.util.IntegerRangeSplitUtils;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
@@ -52,6 +53,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -178,24 +180,25 @@ public final class InventoryTaskSplitter {
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         String actualTableName = dumperConfig.getActualTableName();
         PipelineSQLBuilder pipelineSQLBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobConfig.getSourceDatabaseType());
-        Optional<String> sql = pipelineSQLBuilder.buildEstimatedCountSQL(schemaName, actualTableName);
         try {
-            if (sql.isPresent()) {
-                DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, jobConfig.getSourceDatabaseType());
-                long result = getEstimatedCount(databaseType, dataSource, sql.get());
-                return result > 0 ? result : getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
-            }
-            return getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
+            long result = getEstimatedCount(jobConfig, dataSource, pipelineSQLBuilder, schemaName, actualTableName);
+            return result > 0 ? result : getCount(dataSource, pipelineSQLBuilder.buildCountSQL(schemaName, actualTableName));
         } catch (final SQLException ex) {
             String uniqueKey = dumperConfig.hasUniqueKey() ? dumperConfig.getUniqueKeyColumns().get(0).getName() : "";
             throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
         }
     }
     
-    private long getEstimatedCount(final DatabaseType databaseType, final DataSource dataSource, final String estimatedCountSQL) throws SQLException {
+    private long getEstimatedCount(final PipelineJobConfiguration jobConfig, final DataSource dataSource, final PipelineSQLBuilder pipelineSQLBuilder,
+                                   final String schemaName, final String actualTableName) throws SQLException {
+        Optional<String> sql = pipelineSQLBuilder.buildEstimatedCountSQL(schemaName, actualTableName);
+        if (!sql.isPresent()) {
+            return 0L;
+        }
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, jobConfig.getSourceDatabaseType());
         try (
                 Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(estimatedCountSQL)) {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
             if (databaseType instanceof MySQLDatabaseType) {
                 preparedStatement.setString(1, connection.getCatalog());
             }
@@ -223,19 +226,84 @@ public final class InventoryTaskSplitter {
     
     private Collection<IngestPosition<?>> getPositionByIntegerUniqueKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                              final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
         PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
-        String sql = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobConfig.getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), uniqueKey);
+        PipelineSQLBuilder pipelineSQLBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobConfig.getSourceDatabaseType());
         int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        try {
+            Optional<long[]> minMaxValues = getUniqueKeyMinMaxValues(dataSource, pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey));
+            if (!minMaxValues.isPresent()) {
+                jobItemContext.updateInventoryRecordsCount(0L);
+                // fix empty table missing inventory task
+                return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+            }
+            long minimum = minMaxValues.get()[0];
+            long maximum = minMaxValues.get()[1];
+            long estimatedCount = getEstimatedCount(jobConfig, dataSource, pipelineSQLBuilder, schemaName, dumperConfig.getActualTableName());
+            List<IntegerPrimaryKeyPosition> statisticsPositions = IntegerRangeSplitUtils.split(minimum, maximum, estimatedCount, shardingSize);
+            if (!statisticsPositions.isEmpty()) {
+                String sampleCountSQL = pipelineSQLBuilder.buildUniqueKeyRangeLimitedCountSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey);
+                List<Long> sampleWindowRecordsCounts = getSampleWindowRecordsCounts(dataSource, sampleCountSQL, IntegerRangeSplitUtils.createSampleWindows(minimum, maximum, estimatedCount));
+                if (IntegerRangeSplitUtils.isBalanced(sampleWindowRecordsCounts)) {
+                    log.info("Split by statistics, table={}, uniqueKey={}, minimum={}, maximum={}, estimatedCount={}, positions={}",
+                            dumperConfig.getActualTableName(), uniqueKey, minimum, maximum, estimatedCount, statisticsPositions.size());
+                    jobItemContext.updateInventoryRecordsCount(estimatedCount);
+                    return new LinkedList<>(statisticsPositions);
+                }
+                log.info("Split by statistics is unbalanced, fall back to split by scanning, table={}, uniqueKey={}, maxSampleWindowCount={}",
+                        dumperConfig.getActualTableName(), uniqueKey, Collections.max(sampleWindowRecordsCounts));
+            }
+            return getPositionByIntegerUniqueKeyRangeScan(jobItemContext, dataSource,
+                    pipelineSQLBuilder.buildSplitByPrimaryKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey), minimum, maximum, shardingSize);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
+    private Optional<long[]> getUniqueKeyMinMaxValues(final DataSource dataSource, final String sql) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long minimum = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                return Optional.empty();
+            }
+            return Optional.of(new long[]{minimum, resultSet.getLong(2)});
+        }
+    }
+    
+    private List<Long> getSampleWindowRecordsCounts(final DataSource dataSource, final String sql, final List<IntegerPrimaryKeyPosition> sampleWindows) throws SQLException {
+        List<Long> result = new ArrayList<>(sampleWindows.size());
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (IntegerPrimaryKeyPosition each : sampleWindows) {
+                preparedStatement.setLong(1, each.getBeginValue());
+                preparedStatement.setLong(2, each.getEndValue());
+                preparedStatement.setLong(3, IntegerRangeSplitUtils.getMaxSampleWindowRecordsCount() + 1L);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    resultSet.next();
+                    result.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByIntegerUniqueKeyRangeScan(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final String sql,
+                                                                                 final long minimum, final long maximum, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
+            long beginId = minimum;
             long recordsCount = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
+            while (true) {
                 preparedStatement.setLong(1, beginId);
                 preparedStatement.setLong(2, shardingSize);
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -243,21 +311,22 @@ public final class InventoryTaskSplitter {
                         break;
                     }
                     long endId = resultSet.getLong(1);
-                    recordsCount += resultSet.getLong(2);
-                    if (0 == endId) {
+                    long count = resultSet.getLong(2);
+                    if (0 == count) {
                         break;
                     }
+                    recordsCount += count;
                     result.add(new IntegerPrimaryKeyPosition(beginId, endId));
+                    if (endId >= maximum) {
+                        break;
+                    }
                     beginId = endId + 1;
                 }
             }
             jobItemContext.updateInventoryRecordsCount(recordsCount);
-            // fix empty table missing inventory task
-            if (result.isEmpty()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
-            }
-        } catch (final SQLException ex) {
-            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+        }
+        if (result.isEmpty()) {
+            result.add(new IntegerPrimaryKeyPosition(0, 0));
         }
         return result;
     }
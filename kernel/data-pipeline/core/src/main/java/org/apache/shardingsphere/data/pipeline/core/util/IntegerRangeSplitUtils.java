@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Integer range split utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntegerRangeSplitUtils {
+    
+    private static final long MAX_SKEW_RATIO = 2L;
+    
+    private static final int SAMPLE_WINDOW_COUNT = 32;
+    
+    private static final long SAMPLE_RECORDS_COUNT = 1000L;
+    
+    /**
+     * Split integer unique key range by table statistics.
+     *
+     * <p>Ranges have the same width which is calculated by estimated records count, so every range holds about sharding size records when unique key values are evenly distributed.
+     * Use {@link #createSampleWindows(long, long, long)} and {@link #isBalanced(Collection)} to verify distribution of unique key values,
+     * since skewed unique key values make equal-width ranges unbalanced.</p>
+     *
+     * @param minimum minimum unique key value
+     * @param maximum maximum unique key value
+     * @param estimatedRecordsCount estimated records count
+     * @param shardingSize sharding size
+     * @return split positions, empty if range could not be split by statistics
+     */
+    public static List<IntegerPrimaryKeyPosition> split(final long minimum, final long maximum, final long estimatedRecordsCount, final int shardingSize) {
+        List<IntegerPrimaryKeyPosition> result = new LinkedList<>();
+        long span = maximum - minimum + 1L;
+        if (minimum > maximum || span <= 0L || estimatedRecordsCount <= 0L || shardingSize <= 0) {
+            return result;
+        }
+        long splitCount = Math.min(span, (estimatedRecordsCount + shardingSize - 1L) / shardingSize);
+        long step = span / splitCount + (0L == span % splitCount ? 0L : 1L);
+        long beginValue = minimum;
+        while (true) {
+            long endValue = maximum - beginValue < step ? maximum : beginValue + step - 1L;
+            result.add(new IntegerPrimaryKeyPosition(beginValue, endValue));
+            if (endValue == maximum) {
+                return result;
+            }
+            beginValue = endValue + 1L;
+        }
+    }
+    
+    /**
+     * Create sample windows of unique key range.
+     *
+     * <p>Sample windows are evenly spaced over the whole unique key range,
+     * every window holds about {@value #SAMPLE_RECORDS_COUNT} records when unique key values are evenly distributed.
+     * Records of every window are counted with limit of {@link #getMaxSampleWindowRecordsCount()}, so the cost of sampling does not grow with table size.</p>
+     *
+     * @param minimum minimum unique key value
+     * @param maximum maximum unique key value
+     * @param estimatedRecordsCount estimated records count
+     * @return sample windows, empty if range could not be sampled
+     */
+    public static List<IntegerPrimaryKeyPosition> createSampleWindows(final long minimum, final long maximum, final long estimatedRecordsCount) {
+        List<IntegerPrimaryKeyPosition> result = new LinkedList<>();
+        long span = maximum - minimum + 1L;
+        if (minimum > maximum || span <= 0L || estimatedRecordsCount <= 0L) {
+            return result;
+        }
+        long spacing = span / SAMPLE_WINDOW_COUNT + (0L == span % SAMPLE_WINDOW_COUNT ? 0L : 1L);
+        long windowWidth = Math.min(spacing, Math.max(1L, (long) ((double) span / estimatedRecordsCount * SAMPLE_RECORDS_COUNT)));
+        for (long beginValue = minimum; beginValue <= maximum; beginValue += spacing) {
+            long endValue = maximum - beginValue < windowWidth ? maximum : beginValue + windowWidth - 1L;
+            result.add(new IntegerPrimaryKeyPosition(beginValue, endValue));
+            if (maximum - beginValue < spacing) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get max records count of sample window.
+     *
+     * @return max records count of sample window
+     */
+    public static long getMaxSampleWindowRecordsCount() {
+        return SAMPLE_RECORDS_COUNT * MAX_SKEW_RATIO;
+    }
+    
+    /**
+     * Judge whether unique key values are balanced by records counts of sample windows.
+     *
+     * <p>Unique key values are unbalanced if any sample window holds more than twice of expected records count.</p>
+     *
+     * @param sampleWindowRecordsCounts records count of every sample window
+     * @return balanced or not
+     */
+    public static boolean isBalanced(final Collection<Long> sampleWindowRecordsCounts) {
+        if (sampleWindowRecordsCounts.isEmpty()) {
+            return false;
+        }
+        for (long each : sampleWindowRecordsCounts) {
+            if (each > getMaxSampleWindowRecordsCount()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -17,11 +17,20 @@
 
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Timestamp;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DataConsistencyCheckUtilsTest {
     
@@ -31,4 +40,33 @@ class DataConsistencyCheckUtilsTest {
         BigDecimal another = BigDecimal.valueOf(33220, 2);
         assertTrue(DataConsistencyCheckUtils.isBigDecimalEquals(one, another));
     }
+    
+    @Test
+    void assertIsMatchedWithSameHashColumnValue() throws SQLException {
+        assertMatchedWithSameHashColumnValue(BigDecimal.valueOf(3322, 1), BigDecimal.valueOf(33220, 2));
+        assertMatchedWithSameHashColumnValue(BigDecimal.ZERO, BigDecimal.valueOf(0, 2));
+        assertMatchedWithSameHashColumnValue(new byte[]{1, 2, 3}, new byte[]{1, 2, 3});
+        assertMatchedWithSameHashColumnValue(new Object[]{1, "foo"}, new Object[]{1, "foo"});
+        assertMatchedWithSameHashColumnValue(Timestamp.valueOf("2023-01-01 00:00:00.1"), Timestamp.valueOf("2023-01-01 00:00:00.1"));
+        assertMatchedWithSameHashColumnValue(createSQLXML("<foo/>"), createSQLXML("<foo/>"));
+        assertMatchedWithSameHashColumnValue(null, null);
+    }
+    
+    private void assertMatchedWithSameHashColumnValue(final Object thisColumnValue, final Object thatColumnValue) throws SQLException {
+        assertTrue(DataConsistencyCheckUtils.isMatched(new EqualsBuilder(), thisColumnValue, thatColumnValue));
+        assertThat(DataConsistencyCheckUtils.hashColumnValue(thisColumnValue), is(DataConsistencyCheckUtils.hashColumnValue(thatColumnValue)));
+    }
+    
+    private SQLXML createSQLXML(final String value) throws SQLException {
+        SQLXML result = mock(SQLXML.class);
+        when(result.getString()).thenReturn(value);
+        return result;
+    }
+    
+    @Test
+    void assertIsNotMatched() throws SQLException {
+        assertFalse(DataConsistencyCheckUtils.isMatched(new EqualsBuilder(), new byte[]{1, 2}, new byte[]{1, 3}));
+        assertFalse(DataConsistencyCheckUtils.isMatched(new EqualsBuilder(), BigDecimal.valueOf(3322, 1), BigDecimal.valueOf(3321, 1)));
+        assertFalse(DataConsistencyCheckUtils.isMatched(new EqualsBuilder(), createSQLXML("<foo/>"), createSQLXML("<bar/>")));
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.MerkleTree.MerkleTreeNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleTreeTest {
+    
+    @Test
+    void assertGetRecordsCount() {
+        assertThat(new MerkleTree(2, 2, createLeaves(2, -5L, 0L, 3L, 100L)).getRecordsCount(), is(4L));
+    }
+    
+    @Test
+    void assertGetLeafRange() {
+        MerkleTree merkleTree = new MerkleTree(4, 2, Collections.emptyMap());
+        assertThat(merkleTree.getLeafBeginValue(2L), is(32L));
+        assertThat(merkleTree.getLeafEndValue(2L), is(47L));
+        assertThat(merkleTree.getLeafBeginValue(-1L), is(-16L));
+        assertThat(merkleTree.getLeafEndValue(-1L), is(-1L));
+    }
+    
+    @Test
+    void assertRootNodesMatched() {
+        MerkleTree merkleTree = new MerkleTree(2, 2, createLeaves(2, -5L, 0L, 3L, 100L));
+        MerkleTree peerMerkleTree = new MerkleTree(2, 2, createLeaves(2, 100L, 3L, 0L, -5L));
+        assertThat(merkleTree.getRootNodes(), is(peerMerkleTree.getRootNodes()));
+        assertTrue(merkleTree.findDifferentLeafIds(peerMerkleTree).isEmpty());
+    }
+    
+    @Test
+    void assertFindDifferentLeafIds() {
+        MerkleTree merkleTree = new MerkleTree(2, 2, createLeaves(2, -5L, 0L, 3L, 100L, 1000L));
+        MerkleTree peerMerkleTree = new MerkleTree(2, 2, createLeaves(2, -5L, 1L, 3L, 1000L, 5000L));
+        assertThat(merkleTree.findDifferentLeafIds(peerMerkleTree), is(Arrays.asList(0L, 25L, 1250L)));
+        assertThat(peerMerkleTree.findDifferentLeafIds(merkleTree), is(Arrays.asList(0L, 25L, 1250L)));
+    }
+    
+    @Test
+    void assertCoarsen() {
+        MerkleTree merkleTree = new MerkleTree(2, 2, createLeaves(2, 0L, 3L, 100L, 1000L));
+        MerkleTree coarserMerkleTree = merkleTree.coarsen(6);
+        assertThat(coarserMerkleTree.getLeafBits(), is(6));
+        assertThat(coarserMerkleTree.getRootNodes(), is(merkleTree.getRootNodes()));
+        MerkleTree peerMerkleTree = new MerkleTree(6, 2, createLeaves(6, 0L, 3L, 100L, 1001L));
+        assertThat(coarserMerkleTree.findDifferentLeafIds(peerMerkleTree), is(Collections.singletonList(15L)));
+    }
+    
+    private Map<Long, MerkleTreeNode> createLeaves(final int leafBits, final long... uniqueKeyValues) {
+        Map<Long, MerkleTreeNode> result = new HashMap<>();
+        for (long each : uniqueKeyValues) {
+            result.computeIfAbsent(MerkleTree.getLeafId(each, leafBits), key -> new MerkleTreeNode()).add(each * 31L + 7L);
+        }
+        return result;
+    }
+}
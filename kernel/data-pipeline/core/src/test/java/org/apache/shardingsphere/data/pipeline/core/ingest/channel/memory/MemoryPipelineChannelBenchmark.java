@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for memory pipeline channel.
+ * 
+ * <p>
+ * A dumper thread pushes records and the benchmark thread fetches them in batches as importer does.
+ * Throughput of records transferred and latency of handing one batch over to importer are measured.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MemoryPipelineChannelBenchmark {
+    
+    private static final int RECORD_COUNT = 100000;
+    
+    private static final int BUFFER_SIZE = 10000;
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private static final Record RECORD = new PlaceholderRecord(new PlaceholderPosition());
+    
+    @Param({"SIMPLE", "RING_BUFFER"})
+    private String channelType;
+    
+    private ExecutorService producerExecutor;
+    
+    private PipelineChannel channel;
+    
+    /**
+     * Set up producer executor.
+     */
+    @Setup(Level.Trial)
+    public void setUpExecutor() {
+        producerExecutor = Executors.newSingleThreadExecutor();
+    }
+    
+    /**
+     * Set up pipeline channel.
+     */
+    @Setup(Level.Invocation)
+    public void setUpChannel() {
+        channel = "SIMPLE".equals(channelType) ? new SimpleMemoryPipelineChannel(BUFFER_SIZE, new EmptyAckCallback()) : new RingBufferMemoryPipelineChannel(BUFFER_SIZE, new EmptyAckCallback());
+    }
+    
+    /**
+     * Tear down producer executor.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producerExecutor.shutdownNow();
+    }
+    
+    /**
+     * Transfer records from dumper thread to importer thread.
+     *
+     * @param blackhole blackhole
+     * @throws Exception exception
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORD_COUNT)
+    public void transferRecords(final Blackhole blackhole) throws Exception {
+        Future<?> future = producerExecutor.submit(() -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                channel.pushRecord(RECORD);
+            }
+        });
+        int fetchedCount = 0;
+        while (fetchedCount < RECORD_COUNT) {
+            List<Record> records = channel.fetchRecords(BATCH_SIZE, 1);
+            fetchedCount += records.size();
+            blackhole.consume(records);
+        }
+        future.get();
+    }
+    
+    /**
+     * Hand one batch over from dumper thread to importer thread.
+     *
+     * @param blackhole blackhole
+     * @throws Exception exception
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void handOverBatch(final Blackhole blackhole) throws Exception {
+        Future<?> future = producerExecutor.submit(() -> {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                channel.pushRecord(RECORD);
+            }
+        });
+        blackhole.consume(channel.fetchRecords(BATCH_SIZE, 1));
+        future.get();
+    }
+}
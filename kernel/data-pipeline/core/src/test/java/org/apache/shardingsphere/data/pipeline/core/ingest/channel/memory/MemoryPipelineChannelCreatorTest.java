@@ -45,8 +45,8 @@ class MemoryPipelineChannelCreatorTest {
     }
     
     @Test
-    void assertCreateSimpleMemoryPipelineChannel() {
-        assertThat(TypedSPILoader.getService(PipelineChannelCreator.class, "MEMORY").createPipelineChannel(1, mock(AckCallback.class)), instanceOf(SimpleMemoryPipelineChannel.class));
+    void assertCreateRingBufferMemoryPipelineChannel() {
+        assertThat(TypedSPILoader.getService(PipelineChannelCreator.class, "MEMORY").createPipelineChannel(1, mock(AckCallback.class)), instanceOf(RingBufferMemoryPipelineChannel.class));
     }
     
     @Test
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsInPushedOrder() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(16, mock(AckCallback.class));
+        List<Record> expected = createRecords(10);
+        expected.forEach(channel::pushRecord);
+        assertThat(channel.fetchRecords(10, 0), is(expected));
+    }
+    
+    @Test
+    void assertFetchRecordsNotMoreThanBatchSize() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(16, mock(AckCallback.class));
+        createRecords(10).forEach(channel::pushRecord);
+        assertThat(channel.fetchRecords(4, 0).size(), is(4));
+        assertThat(channel.fetchRecords(10, 0).size(), is(6));
+    }
+    
+    @Test
+    void assertFetchRecordsReturnWhenTimeout() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(16, mock(AckCallback.class));
+        createRecords(3).forEach(channel::pushRecord);
+        long start = System.currentTimeMillis();
+        assertThat(channel.fetchRecords(10, 1).size(), is(3));
+        assertTrue(System.currentTimeMillis() - start >= 900L);
+    }
+    
+    @Test
+    void assertFetchRecordsWakeUpWhenBatchFilled() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(16, mock(AckCallback.class));
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(5, 30));
+        createRecords(5).forEach(channel::pushRecord);
+        assertThat(future.get(10L, TimeUnit.SECONDS).size(), is(5));
+    }
+    
+    @Test
+    void assertPushRecordBlockedUntilFetched() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(3, mock(AckCallback.class));
+        createRecords(4).forEach(channel::pushRecord);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertFalse(future.isDone());
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+        future.get(10L, TimeUnit.SECONDS);
+        assertThat(channel.fetchRecords(10, 0).size(), is(3));
+    }
+    
+    @Test
+    void assertFetchRecordsWithConcurrentProducer() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(64, mock(AckCallback.class));
+        List<Record> expected = createRecords(10000);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> expected.forEach(channel::pushRecord));
+        List<Record> actual = new ArrayList<>(expected.size());
+        while (actual.size() < expected.size()) {
+            actual.addAll(channel.fetchRecords(100, 1));
+        }
+        future.get(10L, TimeUnit.SECONDS);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertAck() {
+        AckCallback ackCallback = mock(AckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition()));
+        new RingBufferMemoryPipelineChannel(16, ackCallback).ack(records);
+        verify(ackCallback).onAck(records);
+    }
+    
+    @Test
+    void assertClose() {
+        RingBufferMemoryPipelineChannel channel = new RingBufferMemoryPipelineChannel(16, mock(AckCallback.class));
+        createRecords(10).forEach(channel::pushRecord);
+        channel.close();
+        assertTrue(channel.fetchRecords(10, 0).isEmpty());
+    }
+    
+    private List<Record> createRecords(final int count) {
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        return result;
+    }
+}
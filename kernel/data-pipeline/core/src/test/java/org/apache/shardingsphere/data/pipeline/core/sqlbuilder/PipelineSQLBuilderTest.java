@@ -75,6 +75,17 @@ class PipelineSQLBuilderTest {
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
     }
     
+    @Test
+    void assertBuildUniqueKeyMinMaxValuesSQL() {
+        assertThat(pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(null, "t_order", "order_id"), is("SELECT MIN(order_id),MAX(order_id) FROM t_order"));
+    }
+    
+    @Test
+    void assertBuildUniqueKeyRangeLimitedCountSQL() {
+        assertThat(pipelineSQLBuilder.buildUniqueKeyRangeLimitedCountSQL(null, "t_order", "order_id"),
+                is("SELECT COUNT(1) FROM (SELECT order_id FROM t_order WHERE order_id>=? AND order_id<=? LIMIT ?) t"));
+    }
+    
     @Test
     void assertBuildInsertSQL() {
         String actual = pipelineSQLBuilder.buildInsertSQL(null, mockDataRecord("t2"));
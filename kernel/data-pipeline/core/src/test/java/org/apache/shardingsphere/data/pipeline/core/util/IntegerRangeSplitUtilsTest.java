@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.util;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntegerRangeSplitUtilsTest {
+    
+    @Test
+    void assertSplitEvenly() {
+        List<IntegerPrimaryKeyPosition> actual = IntegerRangeSplitUtils.split(1L, 100L, 100L, 10);
+        assertThat(actual.size(), is(10));
+        assertThat(actual.get(0).getBeginValue(), is(1L));
+        assertThat(actual.get(0).getEndValue(), is(10L));
+        assertThat(actual.get(9).getBeginValue(), is(91L));
+        assertThat(actual.get(9).getEndValue(), is(100L));
+    }
+    
+    @Test
+    void assertSplitWithNegativeMinimum() {
+        List<IntegerPrimaryKeyPosition> actual = IntegerRangeSplitUtils.split(-50L, 49L, 100L, 30);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0).getBeginValue(), is(-50L));
+        assertThat(actual.get(0).getEndValue(), is(-26L));
+        assertThat(actual.get(3).getBeginValue(), is(25L));
+        assertThat(actual.get(3).getEndValue(), is(49L));
+    }
+    
+    @Test
+    void assertSplitSparseRange() {
+        List<IntegerPrimaryKeyPosition> actual = IntegerRangeSplitUtils.split(0L, 999L, 20L, 10);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getEndValue(), is(499L));
+        assertThat(actual.get(1).getBeginValue(), is(500L));
+        assertThat(actual.get(1).getEndValue(), is(999L));
+    }
+    
+    @Test
+    void assertSplitWithMoreRecordsThanSpan() {
+        List<IntegerPrimaryKeyPosition> actual = IntegerRangeSplitUtils.split(1L, 3L, 1000L, 1);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(2).getBeginValue(), is(3L));
+        assertThat(actual.get(2).getEndValue(), is(3L));
+    }
+    
+    @Test
+    void assertSplitWithoutStatistics() {
+        assertTrue(IntegerRangeSplitUtils.split(1L, 100L, 0L, 10).isEmpty());
+        assertTrue(IntegerRangeSplitUtils.split(Long.MIN_VALUE, Long.MAX_VALUE, 100L, 10).isEmpty());
+    }
+    
+    @Test
+    void assertCreateSampleWindows() {
+        List<IntegerPrimaryKeyPosition> actual = IntegerRangeSplitUtils.createSampleWindows(1L, 3200000L, 3200000L);
+        assertThat(actual.size(), is(32));
+        assertThat(actual.get(0).getBeginValue(), is(1L));
+        assertThat(actual.get(0).getEndValue(), is(1000L));
+        assertThat(actual.get(31).getBeginValue(), is(3100001L));
+        assertThat(actual.get(31).getEndValue(), is(3101000L));
+    }
+    
+    @Test
+    void assertCreateSampleWindowsCoveringWholeRange() {
+        List<IntegerPrimaryKeyPosition> actual = IntegerRangeSplitUtils.createSampleWindows(-50L, 49L, 100L);
+        assertThat(actual.size(), is(25));
+        assertThat(actual.get(0).getBeginValue(), is(-50L));
+        assertThat(actual.get(0).getEndValue(), is(-47L));
+        assertThat(actual.get(24).getBeginValue(), is(46L));
+        assertThat(actual.get(24).getEndValue(), is(49L));
+    }
+    
+    @Test
+    void assertCreateSampleWindowsWithoutStatistics() {
+        assertTrue(IntegerRangeSplitUtils.createSampleWindows(1L, 100L, 0L).isEmpty());
+        assertTrue(IntegerRangeSplitUtils.createSampleWindows(Long.MIN_VALUE, Long.MAX_VALUE, 100L).isEmpty());
+    }
+    
+    @Test
+    void assertIsBalancedWithEvenDistribution() {
+        List<Long> uniqueKeys = new ArrayList<>(100000);
+        for (long i = 1L; i <= 100000L; i++) {
+            uniqueKeys.add(i);
+        }
+        assertTrue(IntegerRangeSplitUtils.isBalanced(countRangeRecords(IntegerRangeSplitUtils.createSampleWindows(1L, 100000L, 100000L), uniqueKeys)));
+    }
+    
+    @Test
+    void assertIsBalancedWithSkewedDistribution() {
+        List<Long> uniqueKeys = new ArrayList<>(100000);
+        for (long i = 1L; i < 100000L; i++) {
+            uniqueKeys.add(i);
+        }
+        uniqueKeys.add(100000000L);
+        assertFalse(IntegerRangeSplitUtils.isBalanced(countRangeRecords(IntegerRangeSplitUtils.createSampleWindows(1L, 100000000L, 100000L), uniqueKeys)));
+    }
+    
+    @Test
+    void assertIsBalancedWithUnderestimatedRecordsCount() {
+        List<Long> uniqueKeys = new ArrayList<>(100000);
+        for (long i = 1L; i <= 100000L; i++) {
+            uniqueKeys.add(i);
+        }
+        assertFalse(IntegerRangeSplitUtils.isBalanced(countRangeRecords(IntegerRangeSplitUtils.createSampleWindows(1L, 100000L, 10000L), uniqueKeys)));
+    }
+    
+    @Test
+    void assertIsBalancedWithoutSampleWindows() {
+        assertFalse(IntegerRangeSplitUtils.isBalanced(Collections.emptyList()));
+    }
+    
+    private List<Long> countRangeRecords(final List<IntegerPrimaryKeyPosition> positions, final List<Long> uniqueKeys) {
+        List<Long> result = new ArrayList<>(positions.size());
+        for (IntegerPrimaryKeyPosition each : positions) {
+            result.add(uniqueKeys.stream().filter(key -> key >= each.getBeginValue() && key <= each.getEndValue()).count());
+        }
+        return result;
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.data.pipeline.opengauss.ingest;
 
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
@@ -66,6 +65,8 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
     
     private final List<AbstractRowEvent> rowEvents = new LinkedList<>();
     
+    private volatile PgConnection replicationConnection;
+    
     public OpenGaussWALDumper(final DumperConfiguration dumperConfig, final IngestPosition<WALPosition> position,
                               final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         ShardingSpherePreconditions.checkState(StandardPipelineDataSourceConfiguration.class.equals(dumperConfig.getDataSourceConfig().getClass()),
@@ -78,19 +79,15 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
         this.decodeWithTX = dumperConfig.isDecodeWithTX();
     }
     
-    @SneakyThrows(InterruptedException.class)
     @Override
     protected void runBlocking() {
         PGReplicationStream stream = null;
         try (PgConnection connection = getReplicationConnectionUnwrap()) {
+            replicationConnection = connection;
             stream = logicalReplication.createReplicationStream(connection, walPosition.getLogSequenceNumber(), OpenGaussPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()));
             DecodingPlugin decodingPlugin = new MppdbDecodingPlugin(new OpenGaussTimestampUtils(connection.getTimestampUtils()), decodeWithTX);
             while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
-                }
+                ByteBuffer message = stream.read();
                 AbstractWALEvent event = decodingPlugin.decode(message, new OpenGaussLogSequenceNumber(stream.getLastReceiveLSN()));
                 if (decodeWithTX) {
                     processEventWithTX(event);
@@ -99,8 +96,11 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
                 }
             }
         } catch (final SQLException ex) {
-            throw new IngestException(ex);
+            if (isRunning()) {
+                throw new IngestException(ex);
+            }
         } finally {
+            replicationConnection = null;
             if (null != stream) {
                 try {
                     stream.close();
@@ -141,6 +141,12 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
     }
     
     @Override
-    protected void doStop() {
+    protected void doStop() throws SQLException {
+        setRunning(false);
+        PgConnection connection = replicationConnection;
+        if (null != connection) {
+            // Abort connection to break the blocking read of replication stream
+            connection.abort(Runnable::run);
+        }
     }
 }
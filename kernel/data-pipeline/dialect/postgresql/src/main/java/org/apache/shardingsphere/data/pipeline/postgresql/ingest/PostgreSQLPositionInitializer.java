@@ -29,6 +29,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * PostgreSQL WAL position initializer.
@@ -36,10 +37,17 @@ import java.sql.SQLException;
 @Slf4j
 public final class PostgreSQLPositionInitializer implements PositionInitializer {
     
+    /**
+     * Publication name, slot will be created with pgoutput plugin if it exists in source.
+     */
+    public static final String PUBLICATION_NAME = "shardingsphere_pipeline";
+    
     private static final String SLOT_NAME_PREFIX = "pipeline";
     
     private static final String DECODE_PLUGIN = "test_decoding";
     
+    private static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -60,7 +68,9 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String decodePlugin = isPublicationExisting(connection) ? PGOUTPUT_DECODE_PLUGIN : DECODE_PLUGIN;
+        log.info("createSlotIfNotExist, slotName={}, decodePlugin={}", slotName, decodePlugin);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodePlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -70,17 +80,46 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private boolean isPublicationExisting(final Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, PUBLICATION_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        return getSlotPlugin(connection, slotName).isPresent();
+    }
+    
+    private static Optional<String> getSlotPlugin(final Connection connection, final String slotName) throws SQLException {
+        String checkSlotSQL = "SELECT plugin FROM pg_replication_slots WHERE slot_name=? AND plugin IN (?,?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
             preparedStatement.setString(2, DECODE_PLUGIN);
+            preparedStatement.setString(3, PGOUTPUT_DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSet.next();
+                return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
             }
         }
     }
     
+    /**
+     * Judge whether slot is created with pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return pgoutput slot or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isPgOutputSlot(final Connection connection, final String slotName) throws SQLException {
+        return connection.getMetaData().getDatabaseMajorVersion() >= 10 && getSlotPlugin(connection, slotName).filter(PGOUTPUT_DECODE_PLUGIN::equals).isPresent();
+    }
+    
     private WALPosition getWalPosition(final Connection connection) throws SQLException {
         try (
                 PreparedStatement preparedStatement = connection.prepareStatement(getLogSequenceNumberSQL(connection));
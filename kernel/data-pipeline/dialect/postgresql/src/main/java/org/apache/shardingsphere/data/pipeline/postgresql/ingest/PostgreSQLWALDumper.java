@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
-import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -46,6 +47,7 @@ import java.sql.SQLException;
 /**
  * PostgreSQL WAL dumper.
  */
+@Slf4j
 public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
     private final DumperConfiguration dumperConfig;
@@ -58,6 +60,8 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     
     private final PostgreSQLLogicalReplication logicalReplication;
     
+    private volatile Connection replicationConnection;
+    
     public PostgreSQLWALDumper(final DumperConfiguration dumperConfig, final IngestPosition<WALPosition> position,
                                final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         ShardingSpherePreconditions.checkState(StandardPipelineDataSourceConfiguration.class.equals(dumperConfig.getDataSourceConfig().getClass()),
@@ -69,31 +73,46 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
         logicalReplication = new PostgreSQLLogicalReplication();
     }
     
-    @SneakyThrows(InterruptedException.class)
     @Override
     protected void runBlocking() {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            replicationConnection = connection;
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+            boolean pgOutput = PostgreSQLPositionInitializer.isPgOutputSlot(connection, slotName);
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
+            DecodingPlugin decodingPlugin = pgOutput ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
+            boolean binary = pgOutput && logicalReplication.isBinarySupported(connection, PostgreSQLPositionInitializer.PUBLICATION_NAME);
+            log.info("Decoding plugin selected, jobId={}, slotName={}, plugin={}, binary={}", dumperConfig.getJobId(), slotName, decodingPlugin.getClass().getSimpleName(), binary);
+            try (PGReplicationStream stream = createReplicationStream(connection, slotName, pgOutput, binary)) {
+                while (isRunning()) {
+                    ByteBuffer message = stream.read();
+                    AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+                    channel.pushRecord(walEventConverter.convert(event));
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                channel.pushRecord(walEventConverter.convert(event));
             }
         } catch (final SQLException ex) {
-            throw new IngestException(ex);
+            if (isRunning()) {
+                throw new IngestException(ex);
+            }
+        } finally {
+            replicationConnection = null;
         }
     }
     
+    private PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final boolean pgOutput, final boolean binary) throws SQLException {
+        return pgOutput
+                ? logicalReplication.createPgOutputReplicationStream(connection, slotName, walPosition.getLogSequenceNumber(), PostgreSQLPositionInitializer.PUBLICATION_NAME, binary)
+                : logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber());
+    }
+    
     @Override
-    protected void doStop() {
+    protected void doStop() throws SQLException {
+        setRunning(false);
+        Connection connection = replicationConnection;
+        if (null != connection) {
+            // Abort connection to break the blocking read of replication stream
+            connection.abort(Runnable::run);
+        }
     }
 }
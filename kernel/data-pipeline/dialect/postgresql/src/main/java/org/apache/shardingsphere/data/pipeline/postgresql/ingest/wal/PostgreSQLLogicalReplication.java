@@ -20,13 +20,17 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlJdbcConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -35,6 +39,12 @@ import java.util.Properties;
  */
 public final class PostgreSQLLogicalReplication {
     
+    private static final int BINARY_MODE_MIN_MAJOR_VERSION = 14;
+    
+    private static final String PUBLISHED_COLUMN_TYPES_SQL = "SELECT DISTINCT a.atttypid FROM pg_publication_tables p"
+            + " JOIN pg_namespace n ON n.nspname = p.schemaname JOIN pg_class c ON c.relnamespace = n.oid AND c.relname = p.tablename"
+            + " JOIN pg_attribute a ON a.attrelid = c.oid WHERE p.pubname = ? AND a.attnum > 0 AND NOT a.attisdropped";
+    
     /**
      * Create connection.
      *
@@ -72,4 +82,57 @@ public final class PostgreSQLLogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream with pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @param startPosition start position
+     * @param publicationName publication name
+     * @param binary whether to request binary tuple data
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition,
+                                                               final String publicationName, final boolean binary) throws SQLException {
+        ChainedLogicalStreamBuilder result = connection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publicationName);
+        if (binary) {
+            result.withSlotOption("binary", "true");
+        }
+        return result.start();
+    }
+    
+    /**
+     * Judge whether pgoutput binary tuple data could be requested.
+     *
+     * <p>Binary mode needs PostgreSQL 14 or later, and every column type of the published tables must be decodable by {@link PgOutputDecodingPlugin}.</p>
+     *
+     * @param connection connection
+     * @param publicationName publication name
+     * @return binary mode could be requested or not
+     * @throws SQLException SQL exception
+     */
+    public boolean isBinarySupported(final Connection connection, final String publicationName) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < BINARY_MODE_MIN_MAJOR_VERSION) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(PUBLISHED_COLUMN_TYPES_SQL)) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (!PgOutputDecodingPlugin.isBinaryDecodable(resultSet.getInt(1))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
 }
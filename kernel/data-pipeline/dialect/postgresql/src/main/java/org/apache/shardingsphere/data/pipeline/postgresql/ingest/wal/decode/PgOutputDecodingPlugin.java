@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UnchangedToastedValue;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.postgresql.core.Oid;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Decoding plugin for PostgreSQL built-in pgoutput logical replication protocol.
+ *
+ * <p>Relation messages are cached by relation id, tuple values are converted by column type OID directly.
+ * Both text and binary (PostgreSQL 14+ {@code binary} option) tuple data are supported.</p>
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/protocol-logicalrep-message-formats.html">Logical Replication Message Formats</a>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final Collection<Integer> BINARY_DECODABLE_TYPES = new HashSet<>(Arrays.asList(Oid.BOOL, Oid.INT2, Oid.INT4, Oid.INT8, Oid.OID, Oid.FLOAT4, Oid.FLOAT8,
+            Oid.NUMERIC, Oid.DATE, Oid.TIME, Oid.TIMESTAMP, Oid.BYTEA, Oid.TEXT, Oid.VARCHAR, Oid.BPCHAR, Oid.NAME, Oid.JSON, Oid.UUID));
+    
+    private static final LocalDate POSTGRESQL_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    
+    private static final short NUMERIC_NEGATIVE = 0x4000;
+    
+    private static final short NUMERIC_NAN = (short) 0xC000;
+    
+    private static final int NUMERIC_DIGIT_SCALE = 4;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    /**
+     * Judge whether binary tuple data of column type could be decoded.
+     *
+     * @param columnType column type OID
+     * @return could be decoded or not
+     */
+    public static boolean isBinaryDecodable(final int columnType) {
+        return BINARY_DECODABLE_TYPES.contains(columnType);
+    }
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        byte messageType = data.get();
+        switch (messageType) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort() & 0xFFFF;
+        boolean[] keyColumns = new boolean[columnCount];
+        int[] columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 0 != (data.get() & 1);
+            readString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, keyColumns, columnTypes));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        byte tupleType = data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            readTupleData(data, relation);
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> oldRow = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(oldRow.size());
+        for (int i = 0; i < oldRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(oldRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private void setTableName(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation) {
+        int columnCount = data.getShort() & 0xFFFF;
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(readColumnValue(data, relation.getColumnTypes()[i]));
+        }
+        return result;
+    }
+    
+    private Object readColumnValue(final ByteBuffer data, final int columnType) {
+        byte kind = data.get();
+        switch (kind) {
+            case 'n':
+                return null;
+            case 'u':
+                return UnchangedToastedValue.INSTANCE;
+            case 't':
+                return convertTextValue(columnType, readBytes(data));
+            case 'b':
+                return convertBinaryValue(columnType, readBytes(data));
+            default:
+                throw new IngestException("Unsupported tuple data kind: " + (char) kind);
+        }
+    }
+    
+    private byte[] readBytes(final ByteBuffer data) {
+        byte[] result = new byte[data.getInt()];
+        data.get(result);
+        return result;
+    }
+    
+    private Object convertBinaryValue(final int columnType, final byte[] value) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        switch (columnType) {
+            case Oid.BOOL:
+                return 0 != buffer.get();
+            case Oid.INT2:
+                return buffer.getShort();
+            case Oid.INT4:
+                return buffer.getInt();
+            case Oid.INT8:
+                return buffer.getLong();
+            case Oid.OID:
+                return buffer.getInt() & 0xFFFFFFFFL;
+            case Oid.FLOAT4:
+                return buffer.getFloat();
+            case Oid.FLOAT8:
+                return buffer.getDouble();
+            case Oid.NUMERIC:
+                return decodeBinaryNumeric(buffer);
+            case Oid.DATE:
+                return Date.valueOf(POSTGRESQL_EPOCH_DATE.plusDays(buffer.getInt()));
+            case Oid.TIME:
+                return new Time(Timestamp.valueOf(LocalDateTime.of(LocalDate.ofEpochDay(0L), LocalTime.ofNanoOfDay(buffer.getLong() * 1000L))).getTime());
+            case Oid.TIMESTAMP:
+                return Timestamp.valueOf(POSTGRESQL_EPOCH_DATE.atStartOfDay().plus(buffer.getLong(), ChronoUnit.MICROS));
+            case Oid.BYTEA:
+                return value;
+            case Oid.UUID:
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case Oid.TEXT:
+            case Oid.VARCHAR:
+            case Oid.BPCHAR:
+            case Oid.NAME:
+            case Oid.JSON:
+                return new String(value, StandardCharsets.UTF_8);
+            default:
+                throw new IngestException("Unsupported binary column type: " + columnType);
+        }
+    }
+    
+    private Object decodeBinaryNumeric(final ByteBuffer buffer) {
+        int digitCount = buffer.getShort();
+        int weight = buffer.getShort();
+        short sign = buffer.getShort();
+        int displayScale = buffer.getShort();
+        if (NUMERIC_NAN == sign) {
+            return "NaN";
+        }
+        BigDecimal result = BigDecimal.ZERO;
+        for (int i = 0; i < digitCount; i++) {
+            result = result.add(BigDecimal.valueOf(buffer.getShort()).scaleByPowerOfTen((weight - i) * NUMERIC_DIGIT_SCALE));
+        }
+        result = result.setScale(displayScale, RoundingMode.UNNECESSARY);
+        return NUMERIC_NEGATIVE == sign ? result.negate() : result;
+    }
+    
+    private Object convertTextValue(final int columnType, final byte[] value) {
+        if (Oid.BYTEA == columnType) {
+            return decodeHex(value);
+        }
+        String text = new String(value, StandardCharsets.UTF_8);
+        try {
+            switch (columnType) {
+                case Oid.BOOL:
+                    return "t".equals(text);
+                case Oid.INT2:
+                    return Short.parseShort(text);
+                case Oid.INT4:
+                    return Integer.parseInt(text);
+                case Oid.INT8:
+                case Oid.OID:
+                    return Long.parseLong(text);
+                case Oid.FLOAT4:
+                    return Float.parseFloat(text);
+                case Oid.FLOAT8:
+                    return Double.parseDouble(text);
+                case Oid.NUMERIC:
+                    return "NaN".equals(text) ? text : new BigDecimal(text);
+                case Oid.DATE:
+                    return Date.valueOf(text);
+                case Oid.TIME:
+                    return timestampUtils.toTime(null, text);
+                case Oid.TIMESTAMP:
+                    return timestampUtils.toTimestamp(null, text);
+                default:
+                    return text;
+            }
+        } catch (final SQLException ex) {
+            throw new DecodingException(ex);
+        }
+    }
+    
+    private byte[] decodeHex(final byte[] value) {
+        if (value.length < 2 || '\\' != value[0] || 'x' != value[1] || 0 != (value.length & 1)) {
+            throw new IngestException("Illegal bytea data: " + new String(value, StandardCharsets.UTF_8));
+        }
+        byte[] result = new byte[(value.length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((Character.digit(value[2 + (i << 1)], 16) << 4) + Character.digit(value[3 + (i << 1)], 16));
+        }
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int length = 0;
+        while (0 != data.get(data.position() + length)) {
+            length++;
+        }
+        byte[] result = new byte[length];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final boolean[] keyColumns;
+        
+        private final int[] columnTypes;
+    }
+}
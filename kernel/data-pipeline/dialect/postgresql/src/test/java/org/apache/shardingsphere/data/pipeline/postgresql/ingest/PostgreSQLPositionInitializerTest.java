@@ -84,11 +84,24 @@ class PostgreSQLPositionInitializerTest {
     @Test
     void assertGetCurrentPositionOnPostgreSQL10() throws SQLException {
         mockSlotExistsOrNot(false);
+        mockPublicationExistsOrNot(false);
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
         WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, "");
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    void assertCreatePgOutputSlotWhenPublicationExists() throws SQLException {
+        mockSlotExistsOrNot(false);
+        mockPublicationExistsOrNot(true);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", PostgreSQLPositionInitializer.getUniqueSlotName(connection, ""),
+                "pgoutput"))).thenReturn(preparedStatement);
+        new PostgreSQLPositionInitializer().init(dataSource, "");
+        verify(preparedStatement).execute();
+    }
+    
     @Test
     void assertGetCurrentPositionThrowException() throws SQLException {
         mockSlotExistsOrNot(false);
@@ -120,7 +133,17 @@ class PostgreSQLPositionInitializerTest {
     @SneakyThrows(SQLException.class)
     private void mockSlotExistsOrNot(final boolean exists) {
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
-        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        when(connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=? AND plugin IN (?,?)")).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(exists);
+        when(resultSet.getString(1)).thenReturn("test_decoding");
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void mockPublicationExistsOrNot(final boolean exists) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(preparedStatement);
         ResultSet resultSet = mock(ResultSet.class);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(exists);
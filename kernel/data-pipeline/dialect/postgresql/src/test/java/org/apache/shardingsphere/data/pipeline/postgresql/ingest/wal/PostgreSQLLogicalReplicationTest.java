@@ -23,9 +23,11 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Post
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.postgresql.PGConnection;
+import org.postgresql.core.Oid;
 import org.postgresql.jdbc.PgConnection;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationConnection;
@@ -33,19 +35,23 @@ import org.postgresql.replication.fluent.ChainedStreamBuilder;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PostgreSQLLogicalReplicationTest {
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private PgConnection connection;
     
     @Mock
@@ -86,6 +92,53 @@ class PostgreSQLLogicalReplicationTest {
         verify(chainedLogicalStreamBuilder).start();
     }
     
+    @Test
+    void assertCreateBinaryPgOutputReplicationStream() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(connection);
+        when(connection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption(anyString(), anyString())).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createPgOutputReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(startPosition), "foo_pub", true);
+        verify(chainedLogicalStreamBuilder).withSlotOption("publication_names", "foo_pub");
+        verify(chainedLogicalStreamBuilder).withSlotOption("binary", "true");
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    void assertIsBinarySupportedWithLowVersion() throws SQLException {
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(13);
+        assertFalse(logicalReplication.isBinarySupported(connection, "foo_pub"));
+    }
+    
+    @Test
+    void assertIsBinarySupportedWithDecodableColumnTypes() throws SQLException {
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(14);
+        ResultSet resultSet = mockColumnTypesResultSet(Oid.INT8);
+        when(resultSet.next()).thenReturn(true, false);
+        assertTrue(logicalReplication.isBinarySupported(connection, "foo_pub"));
+    }
+    
+    @Test
+    void assertIsBinarySupportedWithUndecodableColumnType() throws SQLException {
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(15);
+        ResultSet resultSet = mockColumnTypesResultSet(Oid.TIMESTAMPTZ);
+        when(resultSet.next()).thenReturn(true);
+        assertFalse(logicalReplication.isBinarySupported(connection, "foo_pub"));
+    }
+    
+    private ResultSet mockColumnTypesResultSet(final int columnType) throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        ResultSet result = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(result);
+        when(result.getInt(1)).thenReturn(columnType);
+        return result;
+    }
+    
     @Test
     void assertCreateReplicationStreamFailure() throws SQLException {
         when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
@@ -39,6 +39,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.Begin
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UnchangedToastedValue;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -69,6 +70,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -194,6 +196,18 @@ class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.UPDATE));
     }
     
+    @Test
+    void assertConvertUpdateRowEventWithUnchangedToastedValue() {
+        UpdateRowEvent rowEvent = new UpdateRowEvent();
+        rowEvent.setDatabaseName("");
+        rowEvent.setTableName("t_order");
+        rowEvent.setAfterRow(Arrays.asList(101, 1, UnchangedToastedValue.INSTANCE));
+        DataRecord actual = (DataRecord) walEventConverter.convert(rowEvent);
+        assertTrue(actual.getColumn(1).isUpdated());
+        assertFalse(actual.getColumn(2).isUpdated());
+        assertNull(actual.getColumn(2).getValue());
+    }
+    
     @Test
     void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decoding logical replication messages of one updated row.
+ *
+ * <p>The same row is encoded by test_decoding text format and pgoutput protocol.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DecodingPluginBenchmark {
+    
+    private static final String TEST_DECODING_MESSAGE = "table public.t_order: UPDATE: order_id[bigint]:10001 user_id[integer]:12 status[character varying]:'PAID'"
+            + " amount[numeric]:1024.50 remark[text]:'deliver to the front desk, it''s fine'";
+    
+    private static final int RELATION_ID = 16384;
+    
+    private final BaseLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    @Param({"TEST_DECODING", "PGOUTPUT"})
+    private String pluginType;
+    
+    private DecodingPlugin decodingPlugin;
+    
+    private byte[] message;
+    
+    /**
+     * Set up decoding plugin and message.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        if ("TEST_DECODING".equals(pluginType)) {
+            decodingPlugin = new TestDecodingPlugin(null);
+            message = TEST_DECODING_MESSAGE.getBytes(StandardCharsets.UTF_8);
+            return;
+        }
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(ByteBuffer.wrap(createRelationMessage()), logSequenceNumber);
+        message = createUpdateMessage();
+    }
+    
+    private byte[] createRelationMessage() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeByte('R');
+        output.writeInt(RELATION_ID);
+        writeString(output, "public");
+        writeString(output, "t_order");
+        output.writeByte('d');
+        output.writeShort(5);
+        writeColumn(output, true, "order_id", Oid.INT8);
+        writeColumn(output, false, "user_id", Oid.INT4);
+        writeColumn(output, false, "status", Oid.VARCHAR);
+        writeColumn(output, false, "amount", Oid.NUMERIC);
+        writeColumn(output, false, "remark", Oid.TEXT);
+        return result.toByteArray();
+    }
+    
+    private byte[] createUpdateMessage() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(result);
+        output.writeByte('U');
+        output.writeInt(RELATION_ID);
+        output.writeByte('N');
+        output.writeShort(5);
+        for (String each : new String[]{"10001", "12", "PAID", "1024.50", "deliver to the front desk, it's fine"}) {
+            byte[] value = each.getBytes(StandardCharsets.UTF_8);
+            output.writeByte('t');
+            output.writeInt(value.length);
+            output.write(value);
+        }
+        return result.toByteArray();
+    }
+    
+    private void writeColumn(final DataOutputStream output, final boolean key, final String name, final int type) throws IOException {
+        output.writeByte(key ? 1 : 0);
+        writeString(output, name);
+        output.writeInt(type);
+        output.writeInt(-1);
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.write(value.getBytes(StandardCharsets.UTF_8));
+        output.writeByte(0);
+    }
+    
+    /**
+     * Decode one update row message.
+     *
+     * @return decoded WAL event
+     */
+    @Benchmark
+    public AbstractWALEvent decode() {
+        return decodingPlugin.decode(ByteBuffer.wrap(message), logSequenceNumber);
+    }
+}
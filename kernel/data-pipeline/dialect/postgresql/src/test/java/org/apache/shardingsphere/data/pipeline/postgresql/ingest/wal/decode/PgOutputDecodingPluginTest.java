@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UnchangedToastedValue;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        AbstractWALEvent actual = decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        assertThat(actual, instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEvent() throws IOException {
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(createRowMessage('I', 'N', "1", "12.50", "t", "\\x0aff", null), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1L));
+        assertThat(actual.getAfterRow().get(1), is(new BigDecimal("12.50")));
+        assertThat(actual.getAfterRow().get(2), is(true));
+        assertThat(actual.getAfterRow().get(3), is(new byte[]{0x0a, (byte) 0xff}));
+        assertNull(actual.getAfterRow().get(4));
+    }
+    
+    @Test
+    void assertDecodeBinaryWriteRowEvent() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('I');
+        output.writeInt(16384);
+        output.writeByte('N');
+        output.writeShort(5);
+        writeBinaryValue(output, ByteBuffer.allocate(8).putLong(1L).array());
+        writeBinaryValue(output, ByteBuffer.allocate(12).putShort((short) 2).putShort((short) 0).putShort((short) 0x4000).putShort((short) 2).putShort((short) 12).putShort((short) 5000).array());
+        writeBinaryValue(output, new byte[]{1});
+        writeBinaryValue(output, new byte[]{0x0a, (byte) 0xff});
+        writeBinaryValue(output, "中文".getBytes(StandardCharsets.UTF_8));
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(1L));
+        assertThat(actual.getAfterRow().get(1), is(new BigDecimal("-12.50")));
+        assertThat(actual.getAfterRow().get(2), is(true));
+        assertThat(actual.getAfterRow().get(3), is(new byte[]{0x0a, (byte) 0xff}));
+        assertThat(actual.getAfterRow().get(4), is("中文"));
+    }
+    
+    @Test
+    void assertIsBinaryDecodable() {
+        assertTrue(PgOutputDecodingPlugin.isBinaryDecodable(Oid.NUMERIC));
+        assertFalse(PgOutputDecodingPlugin.isBinaryDecodable(Oid.TIMESTAMPTZ));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEvent() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('U');
+        output.writeInt(16384);
+        output.writeByte('N');
+        output.writeShort(5);
+        writeTextValue(output, "1");
+        writeTextValue(output, "1.00");
+        writeTextValue(output, "f");
+        output.writeByte('u');
+        writeTextValue(output, "中文");
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(1L));
+        assertThat(actual.getAfterRow().get(2), is(false));
+        assertThat(actual.getAfterRow().get(3), is(UnchangedToastedValue.INSTANCE));
+        assertThat(actual.getAfterRow().get(4), is("中文"));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithOldKey() throws IOException {
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(createRowMessage('U', 'K', "2", null, null, null, null), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(3L));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() throws IOException {
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(createRowMessage('D', 'K', "1", null, null, null, null), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Collections.<Object>singletonList(1L)));
+    }
+    
+    @Test
+    void assertDecodeTransactionMessage() {
+        ByteBuffer data = ByteBuffer.allocate(21);
+        data.put((byte) 'B').putLong(100L).putLong(0L).putInt(1);
+        data.flip();
+        AbstractWALEvent actual = decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual, instanceOf(PlaceholderEvent.class));
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(5);
+        data.put((byte) 'I').putInt(1);
+        data.flip();
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+    }
+    
+    private ByteBuffer createRelationMessage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('R');
+        output.writeInt(16384);
+        writeString(output, "public");
+        writeString(output, "t_order");
+        output.writeByte('d');
+        output.writeShort(5);
+        writeColumn(output, true, "order_id", Oid.INT8);
+        writeColumn(output, false, "amount", Oid.NUMERIC);
+        writeColumn(output, false, "paid", Oid.BOOL);
+        writeColumn(output, false, "content", Oid.BYTEA);
+        writeColumn(output, false, "remark", Oid.VARCHAR);
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+    
+    private ByteBuffer createRowMessage(final char messageType, final char tupleType, final String... values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte(messageType);
+        output.writeInt(16384);
+        output.writeByte(tupleType);
+        writeTupleData(output, values);
+        if ('U' == messageType) {
+            output.writeByte('N');
+            writeTupleData(output, "3", "1.00", "f", null, null);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+    
+    private void writeTupleData(final DataOutputStream output, final String... values) throws IOException {
+        output.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                output.writeByte('n');
+            } else {
+                writeTextValue(output, each);
+            }
+        }
+    }
+    
+    private void writeTextValue(final DataOutputStream output, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeByte('t');
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private void writeBinaryValue(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeByte('b');
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private void writeColumn(final DataOutputStream output, final boolean key, final String name, final int type) throws IOException {
+        output.writeByte(key ? 1 : 0);
+        writeString(output, name);
+        output.writeInt(type);
+        output.writeInt(-1);
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.write(value.getBytes(StandardCharsets.UTF_8));
+        output.writeByte(0);
+    }
+}
@@ -87,7 +87,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         if (lockContext.tryLock(lockDefinition, 200L)) {
-            globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getCommitTimestamp());
         }
     }
     
@@ -98,7 +98,9 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         try {
-            globalClockProvider.getNextTimestamp();
+            if (!globalClockProvider.isCommitTimestampLeased()) {
+                globalClockProvider.getNextTimestamp();
+            }
         } finally {
             lockContext.unlock(lockDefinition);
         }
@@ -39,4 +39,24 @@ public interface GlobalClockProvider extends TypedSPI {
      * @return next timestamp
      */
     long getNextTimestamp();
+    
+    /**
+     * Get commit timestamp.
+     *
+     * @return commit timestamp
+     */
+    default long getCommitTimestamp() {
+        return getCurrentTimestamp();
+    }
+    
+    /**
+     * Judge whether commit timestamp is leased.
+     *
+     * <p>Leased commit timestamp is already less than global timestamp, so global timestamp is not increased after commit.</p>
+     *
+     * @return commit timestamp is leased or not
+     */
+    default boolean isCommitTimestampLeased() {
+        return false;
+    }
 }
@@ -21,6 +21,8 @@ import lombok.Getter;
 import org.apache.shardingsphere.globalclock.api.config.GlobalClockRuleConfiguration;
 import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
@@ -35,7 +37,7 @@ import java.util.stream.Collectors;
 /**
  * Global clock rule.
  */
-public final class GlobalClockRule implements GlobalRule {
+public final class GlobalClockRule implements GlobalRule, InstanceContextAware {
     
     @Getter
     private final GlobalClockRuleConfiguration configuration;
@@ -71,6 +73,17 @@ public final class GlobalClockRule implements GlobalRule {
         return String.join(".", configuration.getType(), configuration.getProvider());
     }
     
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        GlobalClockProvider globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, getGlobalClockProviderType(), configuration.getProps());
+        if (globalClockProvider instanceof InstanceContextAware) {
+            ((InstanceContextAware) globalClockProvider).setInstanceContext(instanceContext);
+        }
+    }
+    
     @Override
     public String getType() {
         return GlobalClockRule.class.getSimpleName();
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.type.hlc.exception.LocalHLCClusterModeUnsupportedException;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Local hybrid logical clock provider.
+ * 
+ * <p>
+ * Timestamp is physical clock in milliseconds shifted left by 16 bits plus a logical counter, and is issued without any network hop.
+ * Timestamps never go backwards even if physical clock moves back, logical counter is increased instead.
+ * </p>
+ * 
+ * <p>
+ * The provider is only for deployments with a single compute node, such as standalone mode or one JDBC or Proxy instance,
+ * because timestamps of different instances are never exchanged and so are not ordered.
+ * It refuses to start in cluster mode, use a shared provider such as TSO for clusters of several compute nodes.
+ * </p>
+ */
+public final class LocalHLCProvider implements HLCProvider, InstanceContextAware {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private final AtomicLong lastTimestamp = new AtomicLong();
+    
+    private final LongSupplier physicalClock;
+    
+    public LocalHLCProvider() {
+        this(System::currentTimeMillis);
+    }
+    
+    LocalHLCProvider(final LongSupplier physicalClock) {
+        this.physicalClock = physicalClock;
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        ShardingSpherePreconditions.checkState(!instanceContext.isCluster(), LocalHLCClusterModeUnsupportedException::new);
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return lastTimestamp.updateAndGet(each -> Math.max(each, physicalTimestamp));
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return lastTimestamp.updateAndGet(each -> Math.max(each + 1L, physicalTimestamp));
+    }
+    
+    private long getPhysicalTimestamp() {
+        return physicalClock.getAsLong() << LOGICAL_BITS;
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.globalclock.type.hlc.exception;
+
+import org.apache.shardingsphere.globalclock.core.exception.GlobalClockSQLException;
+import org.apache.shardingsphere.infra.util.exception.external.sql.sqlstate.XOpenSQLState;
+
+/**
+ * Local hybrid logical clock cluster mode unsupported exception.
+ */
+public final class LocalHLCClusterModeUnsupportedException extends GlobalClockSQLException {
+    
+    private static final long serialVersionUID = 3283742856452036574L;
+    
+    public LocalHLCClusterModeUnsupportedException() {
+        super(XOpenSQLState.FEATURE_NOT_SUPPORTED, 2, "Global clock provider `HLC.local` can not be used in cluster mode, please use a shared provider such as `TSO.redis`.");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.apache.shardingsphere.globalclock.type.hlc.exception.LocalHLCClusterModeUnsupportedException;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalHLCProviderTest {
+    
+    @Test
+    void assertGetServiceByType() {
+        assertThat(TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local"), instanceOf(LocalHLCProvider.class));
+    }
+    
+    @Test
+    void assertGetTimestampWithClockRegression() {
+        AtomicLong physicalClock = new AtomicLong(1000L);
+        LocalHLCProvider provider = createProvider(physicalClock);
+        assertThat(provider.getCurrentTimestamp(), is(1000L << 16));
+        assertThat(provider.getNextTimestamp(), is((1000L << 16) + 1L));
+        physicalClock.set(900L);
+        assertThat(provider.getCurrentTimestamp(), is((1000L << 16) + 1L));
+        assertThat(provider.getNextTimestamp(), is((1000L << 16) + 2L));
+        physicalClock.set(1001L);
+        assertThat(provider.getNextTimestamp(), is(1001L << 16));
+    }
+    
+    @Test
+    void assertSetInstanceContextInClusterMode() {
+        InstanceContext instanceContext = mock(InstanceContext.class);
+        when(instanceContext.isCluster()).thenReturn(true);
+        assertThrows(LocalHLCClusterModeUnsupportedException.class, () -> new LocalHLCProvider().setInstanceContext(instanceContext));
+    }
+    
+    @Test
+    void assertSetInstanceContextInStandaloneMode() {
+        assertDoesNotThrow(() -> new LocalHLCProvider().setInstanceContext(mock(InstanceContext.class)));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithMultipleThreads() throws ExecutionException, InterruptedException {
+        LocalHLCProvider provider = createProvider(new AtomicLong(1000L));
+        int threadCount = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            Collection<Future<List<Long>>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> getNextTimestampsAfterStarted(provider, startLatch)));
+            }
+            startLatch.countDown();
+            Set<Long> actual = new HashSet<>();
+            for (Future<List<Long>> each : futures) {
+                List<Long> timestamps = each.get();
+                for (int i = 1; i < timestamps.size(); i++) {
+                    assertTrue(timestamps.get(i) > timestamps.get(i - 1));
+                }
+                actual.addAll(timestamps);
+            }
+            assertThat(actual.size(), is(threadCount * 10000));
+            assertThat(provider.getCurrentTimestamp(), is((1000L << 16) + threadCount * 10000L - 1L));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private List<Long> getNextTimestampsAfterStarted(final LocalHLCProvider provider, final CountDownLatch startLatch) throws InterruptedException {
+        startLatch.await();
+        List<Long> result = new ArrayList<>(10000);
+        for (int i = 0; i < 10000; i++) {
+            result.add(provider.getNextTimestamp());
+        }
+        return result;
+    }
+    
+    private LocalHLCProvider createProvider(final AtomicLong physicalClock) {
+        return new LocalHLCProvider(physicalClock::get);
+    }
+}
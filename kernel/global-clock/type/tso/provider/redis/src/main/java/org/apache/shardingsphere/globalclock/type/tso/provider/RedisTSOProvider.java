@@ -18,20 +18,49 @@
 package org.apache.shardingsphere.globalclock.type.tso.provider;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.globalclock.type.tso.provider.exception.RedisTSORangeLeaseConflictException;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Redis timestamp oracle provider.
+ * 
+ * <p>
+ * If range size is greater than 1, commit timestamps are handed out locally from ranges leased by {@code INCRBY},
+ * and next range is pre-fetched asynchronously once current range is half consumed.
+ * CSN in redis is always greater than any leased timestamp, so snapshot timestamp read from redis is never older than an already committed one.
+ * Commit timestamp is never less than any snapshot timestamp read by this provider, stale leased timestamps are skipped.
+ * </p>
+ * 
+ * <p>
+ * Leased commit timestamp is only ordered after snapshot timestamps read by the same instance, so leasing requires a single instance to use the CSN key.
+ * The leasing instance owns an owner key with expiration and renews it periodically.
+ * Instances with range size 1 register themselves as non-leasing participants with expiration and renew registration periodically.
+ * Owner key is only acquired while no participant is registered, and participant is only registered while owner key does not exist,
+ * so an instance fails to initialize if it conflicts with any running instance, no matter which one starts first.
+ * Once ownership can not be renewed in time, the provider falls back to increase CSN in redis for every commit.
+ * </p>
  */
 @Slf4j
-public final class RedisTSOProvider implements TSOProvider {
+public final class RedisTSOProvider implements TSOProvider, AutoCloseable {
     
     private static final String CSN_KEY = "csn";
     
@@ -39,19 +68,65 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private static final long INIT_CSN = Integer.MAX_VALUE;
     
+    private static final String LEASE_OWNER_KEY = "csn_lease_owner";
+    
+    private static final String NON_LEASING_PARTICIPANTS_KEY = "csn_non_leasing_participants";
+    
+    private static final long REGISTRATION_TTL_MILLISECONDS = 30000L;
+    
+    private static final long REGISTRATION_RENEW_INTERVAL_MILLISECONDS = 10000L;
+    
+    private static final String ACQUIRE_LEASE_OWNER_SCRIPT = "redis.call('zremrangebyscore', KEYS[2], '-inf', ARGV[3]) "
+            + "if redis.call('zcard', KEYS[2]) > 0 then return 0 end "
+            + "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 else return 0 end";
+    
+    private static final String REGISTER_NON_LEASING_PARTICIPANT_SCRIPT = "if redis.call('exists', KEYS[2]) == 1 then return 0 end "
+            + "redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) redis.call('pexpire', KEYS[1], ARGV[3]) return 1";
+    
+    private static final String RENEW_LEASE_OWNER_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end";
+    
+    private static final String RELEASE_LEASE_OWNER_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+    
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     
+    private final AtomicLong maxSnapshotTimestamp = new AtomicLong();
+    
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    private ScheduledExecutorService leaseExecutor;
+    
+    private volatile long leaseOwnerDeadlineMillis;
+    
+    private volatile boolean leaseOwnerLost;
+    
     private JedisPool jedisPool;
     
     private Properties props;
     
+    private int rangeSize;
+    
+    private TimestampRange leasedRange;
+    
+    private CompletableFuture<TimestampRange> prefetchedRange;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
+        rangeSize = Integer.parseInt(getValue(props, RedisTSOPropertyKey.RANGE_SIZE));
         if (initialized.compareAndSet(false, true)) {
+            leaseExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("redis-tso-lease-%d").build());
             createJedisPool();
             checkJedisPool();
             initCSN();
+            try {
+                initRegistration();
+            } catch (final RedisTSORangeLeaseConflictException ex) {
+                leaseExecutor.shutdownNow();
+                jedisPool.close();
+                initialized.set(false);
+                throw ex;
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(this::close));
         }
     }
     
@@ -79,6 +154,80 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    private void initRegistration() {
+        leaseOwnerLost = false;
+        if (rangeSize <= 1) {
+            ShardingSpherePreconditions.checkState(registerNonLeasingParticipant(), () -> new RedisTSORangeLeaseConflictException(CSN_KEY));
+            leaseExecutor.scheduleWithFixedDelay(this::renewNonLeasingParticipant, REGISTRATION_RENEW_INTERVAL_MILLISECONDS, REGISTRATION_RENEW_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+            return;
+        }
+        long startMillis = System.currentTimeMillis();
+        try (Jedis jedis = jedisPool.getResource()) {
+            Object acquired = jedis.eval(ACQUIRE_LEASE_OWNER_SCRIPT, Arrays.asList(LEASE_OWNER_KEY, NON_LEASING_PARTICIPANTS_KEY),
+                    Arrays.asList(instanceId, String.valueOf(REGISTRATION_TTL_MILLISECONDS), String.valueOf(startMillis)));
+            ShardingSpherePreconditions.checkState(Long.valueOf(1L).equals(acquired), () -> new RedisTSORangeLeaseConflictException(CSN_KEY));
+        }
+        leaseOwnerDeadlineMillis = startMillis + REGISTRATION_TTL_MILLISECONDS;
+        leaseExecutor.scheduleWithFixedDelay(this::renewLeaseOwner, REGISTRATION_RENEW_INTERVAL_MILLISECONDS, REGISTRATION_RENEW_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    private boolean registerNonLeasingParticipant() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return Long.valueOf(1L).equals(jedis.eval(REGISTER_NON_LEASING_PARTICIPANT_SCRIPT, Arrays.asList(NON_LEASING_PARTICIPANTS_KEY, LEASE_OWNER_KEY),
+                    Arrays.asList(instanceId, String.valueOf(System.currentTimeMillis() + REGISTRATION_TTL_MILLISECONDS), String.valueOf(REGISTRATION_TTL_MILLISECONDS))));
+        }
+    }
+    
+    private void renewNonLeasingParticipant() {
+        try {
+            if (!registerNonLeasingParticipant()) {
+                log.error("Registration in `{}` expired and `{}` is owned by another instance, commit timestamps of leasing instance may be out of order",
+                        NON_LEASING_PARTICIPANTS_KEY, LEASE_OWNER_KEY);
+            }
+        } catch (final JedisException ex) {
+            log.warn("Renew registration in `{}` failed", NON_LEASING_PARTICIPANTS_KEY, ex);
+        }
+    }
+    
+    private void renewLeaseOwner() {
+        if (!isCommitTimestampLeased()) {
+            return;
+        }
+        long startMillis = System.currentTimeMillis();
+        try (Jedis jedis = jedisPool.getResource()) {
+            if (Long.valueOf(1L).equals(jedis.eval(RENEW_LEASE_OWNER_SCRIPT, Collections.singletonList(LEASE_OWNER_KEY), Arrays.asList(instanceId, String.valueOf(REGISTRATION_TTL_MILLISECONDS))))) {
+                leaseOwnerDeadlineMillis = startMillis + REGISTRATION_TTL_MILLISECONDS;
+            } else {
+                log.warn("Ownership of `{}` is lost, stop leasing timestamp ranges", LEASE_OWNER_KEY);
+                leaseOwnerLost = true;
+            }
+        } catch (final JedisException ex) {
+            log.warn("Renew ownership of `{}` failed", LEASE_OWNER_KEY, ex);
+        }
+    }
+    
+    /**
+     * Close provider, stop renewing and remove registration of this instance.
+     */
+    @Override
+    public void close() {
+        if (!initialized.compareAndSet(true, false)) {
+            return;
+        }
+        leaseOwnerLost = true;
+        leaseExecutor.shutdownNow();
+        try (Jedis jedis = jedisPool.getResource()) {
+            if (rangeSize <= 1) {
+                jedis.zrem(NON_LEASING_PARTICIPANTS_KEY, instanceId);
+            } else {
+                jedis.eval(RELEASE_LEASE_OWNER_SCRIPT, Collections.singletonList(LEASE_OWNER_KEY), Collections.singletonList(instanceId));
+            }
+        } catch (final JedisException ex) {
+            log.warn("Remove registration of instance `{}` failed", instanceId, ex);
+        }
+        jedisPool.close();
+    }
+    
     private String getValue(final Properties props, final RedisTSOPropertyKey propertyKey) {
         return props.containsKey(propertyKey.getKey()) ? props.getProperty(propertyKey.getKey()) : propertyKey.getDefaultValue();
     }
@@ -89,11 +238,17 @@ public final class RedisTSOProvider implements TSOProvider {
         try (Jedis jedis = jedisPool.getResource()) {
             result = Long.parseLong(jedis.get(CSN_KEY));
         }
+        if (rangeSize > 1) {
+            maxSnapshotTimestamp.accumulateAndGet(result, Math::max);
+        }
         return result;
     }
     
     @Override
     public long getNextTimestamp() throws JedisConnectionException {
+        if (isCommitTimestampLeased()) {
+            return getLeasedTimestamp();
+        }
         long result;
         try (Jedis jedis = jedisPool.getResource()) {
             result = jedis.incr(CSN_KEY);
@@ -101,8 +256,77 @@ public final class RedisTSOProvider implements TSOProvider {
         return result;
     }
     
+    @Override
+    public long getCommitTimestamp() throws JedisConnectionException {
+        return isCommitTimestampLeased() ? getLeasedTimestamp() : getCurrentTimestamp();
+    }
+    
+    @Override
+    public boolean isCommitTimestampLeased() {
+        if (rangeSize <= 1 || leaseOwnerLost) {
+            return false;
+        }
+        if (System.currentTimeMillis() >= leaseOwnerDeadlineMillis) {
+            leaseOwnerLost = true;
+            return false;
+        }
+        return true;
+    }
+    
+    private synchronized long getLeasedTimestamp() {
+        long minTimestamp = maxSnapshotTimestamp.get();
+        if (null == leasedRange || leasedRange.end <= Math.max(leasedRange.next, minTimestamp)) {
+            leasedRange = takeNextRange(minTimestamp);
+        }
+        long result = Math.max(leasedRange.next, minTimestamp);
+        leasedRange.next = result + 1L;
+        if (null == prefetchedRange && leasedRange.isHalfConsumed()) {
+            prefetchedRange = CompletableFuture.supplyAsync(this::leaseRange, leaseExecutor);
+        }
+        return result;
+    }
+    
+    private TimestampRange takeNextRange(final long minTimestamp) {
+        TimestampRange result = null;
+        if (null != prefetchedRange) {
+            try {
+                result = prefetchedRange.join();
+            } catch (final CompletionException ex) {
+                log.warn("Pre-fetch timestamp range failed", ex);
+            }
+            prefetchedRange = null;
+        }
+        return null == result || result.end <= minTimestamp ? leaseRange() : result;
+    }
+    
+    private TimestampRange leaseRange() throws JedisConnectionException {
+        try (Jedis jedis = jedisPool.getResource()) {
+            long end = jedis.incrBy(CSN_KEY, rangeSize);
+            return new TimestampRange(end - rangeSize, end);
+        }
+    }
+    
     @Override
     public String getType() {
         return "TSO.redis";
     }
+    
+    private static final class TimestampRange {
+        
+        private final long start;
+        
+        private final long end;
+        
+        private long next;
+        
+        TimestampRange(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+            next = start;
+        }
+        
+        boolean isHalfConsumed() {
+            return (next - start) << 1 >= end - start;
+        }
+    }
 }
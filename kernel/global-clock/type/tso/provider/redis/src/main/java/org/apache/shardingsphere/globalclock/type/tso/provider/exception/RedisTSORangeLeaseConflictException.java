@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.exception;
+
+import org.apache.shardingsphere.globalclock.core.exception.GlobalClockSQLException;
+import org.apache.shardingsphere.infra.util.exception.external.sql.sqlstate.XOpenSQLState;
+
+/**
+ * Redis timestamp oracle range lease conflict exception.
+ */
+public final class RedisTSORangeLeaseConflictException extends GlobalClockSQLException {
+    
+    private static final long serialVersionUID = 4823417526090736213L;
+    
+    public RedisTSORangeLeaseConflictException(final String csnKey) {
+        super(XOpenSQLState.CHECK_OPTION_VIOLATION, 3, "Timestamp oracle key `%s` is used by another instance, range size greater than 1 requires a single instance to use the key.", csnKey);
+    }
+}
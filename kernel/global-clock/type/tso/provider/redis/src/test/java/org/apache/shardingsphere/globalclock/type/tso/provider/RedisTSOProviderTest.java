@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.apache.shardingsphere.globalclock.type.tso.provider.exception.RedisTSORangeLeaseConflictException;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisTSOProviderTest {
+    
+    private final AtomicLong csn = new AtomicLong(100L);
+    
+    private final AtomicReference<String> leaseOwner = new AtomicReference<>();
+    
+    private final Set<String> nonLeasingParticipants = ConcurrentHashMap.newKeySet();
+    
+    private final Jedis jedis = mockJedis();
+    
+    private Jedis mockJedis() {
+        Jedis result = mock(Jedis.class);
+        when(result.get("csn")).thenAnswer(invocation -> String.valueOf(csn.get()));
+        when(result.eval(anyString(), eq(Arrays.asList("csn_lease_owner", "csn_non_leasing_participants")), anyList()))
+                .thenAnswer(invocation -> nonLeasingParticipants.isEmpty() && leaseOwner.compareAndSet(null, invocation.<List<String>>getArgument(2).get(0)) ? 1L : 0L);
+        when(result.eval(anyString(), eq(Arrays.asList("csn_non_leasing_participants", "csn_lease_owner")), anyList()))
+                .thenAnswer(invocation -> null == leaseOwner.get() && nonLeasingParticipants.add(invocation.<List<String>>getArgument(2).get(0)) ? 1L : 0L);
+        when(result.eval(anyString(), eq(Collections.singletonList("csn_lease_owner")), anyList())).thenAnswer(invocation -> releaseOrRenewLeaseOwner(invocation.getArgument(2)));
+        when(result.zrem(eq("csn_non_leasing_participants"), anyString())).thenAnswer(invocation -> nonLeasingParticipants.remove(invocation.<String>getArgument(1)) ? 1L : 0L);
+        when(result.incr(anyString())).thenAnswer(invocation -> csn.incrementAndGet());
+        when(result.incrBy(anyString(), anyLong())).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        return result;
+    }
+    
+    private long releaseOrRenewLeaseOwner(final List<String> args) {
+        if (1 == args.size()) {
+            return leaseOwner.compareAndSet(args.get(0), null) ? 1L : 0L;
+        }
+        return args.get(0).equals(leaseOwner.get()) ? 1L : 0L;
+    }
+    
+    @Test
+    void assertGetCommitTimestampWithLeasedRange() {
+        RedisTSOProvider provider = createProvider("10");
+        assertTrue(provider.isCommitTimestampLeased());
+        for (long i = 100L; i < 110L; i++) {
+            assertThat(provider.getCommitTimestamp(), is(i));
+        }
+        assertThat(provider.getCommitTimestamp(), is(110L));
+        verify(jedis, times(2)).incrBy("csn", 10L);
+    }
+    
+    @Test
+    void assertGetCurrentTimestampAfterCommitWithLeasedRange() {
+        RedisTSOProvider provider = createProvider("10");
+        long commitTimestamp = provider.getCommitTimestamp();
+        assertTrue(provider.getCurrentTimestamp() > commitTimestamp);
+    }
+    
+    @Test
+    void assertGetCommitTimestampAfterSnapshotAheadOfLeasedRange() {
+        RedisTSOProvider provider = createProvider("10");
+        assertThat(provider.getCommitTimestamp(), is(100L));
+        csn.addAndGet(50L);
+        assertThat(provider.getCurrentTimestamp(), is(160L));
+        assertThat(provider.getCommitTimestamp(), is(160L));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithoutLeasedRange() {
+        RedisTSOProvider provider = createProvider("1");
+        assertFalse(provider.isCommitTimestampLeased());
+        assertThat(provider.getNextTimestamp(), is(101L));
+        assertThat(provider.getCommitTimestamp(), is(101L));
+    }
+    
+    @Test
+    void assertInitLeasedRangeWithKeyOwnedByAnotherInstance() {
+        createProvider("10");
+        assertThrows(RedisTSORangeLeaseConflictException.class, () -> createProvider("10"));
+    }
+    
+    @Test
+    void assertInitWithoutLeasedRangeWithKeyOwnedByAnotherInstance() {
+        createProvider("10");
+        assertThrows(RedisTSORangeLeaseConflictException.class, () -> createProvider("1"));
+    }
+    
+    @Test
+    void assertInitLeasedRangeWithNonLeasingInstanceStarted() {
+        createProvider("1");
+        assertThrows(RedisTSORangeLeaseConflictException.class, () -> createProvider("10"));
+        assertNull(leaseOwner.get());
+    }
+    
+    @Test
+    void assertInitLeasedRangeAfterNonLeasingInstanceClosed() {
+        createProvider("1").close();
+        assertTrue(nonLeasingParticipants.isEmpty());
+        assertTrue(createProvider("10").isCommitTimestampLeased());
+    }
+    
+    @Test
+    void assertClose() {
+        RedisTSOProvider provider = createProvider("10");
+        provider.close();
+        assertNull(leaseOwner.get());
+        assertFalse(provider.isCommitTimestampLeased());
+        assertTrue(createProvider("10").isCommitTimestampLeased());
+    }
+    
+    @Test
+    void assertCloseWithLeaseOwnedByAnotherInstance() {
+        RedisTSOProvider provider = createProvider("10");
+        leaseOwner.set("foo_instance");
+        provider.close();
+        assertThat(leaseOwner.get(), is("foo_instance"));
+    }
+    
+    private RedisTSOProvider createProvider(final String rangeSize) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        Properties props = new Properties();
+        props.setProperty("rangeSize", rangeSize);
+        try (MockedConstruction<JedisPool> ignored = mockConstruction(JedisPool.class, (mock, context) -> when(mock.getResource()).thenReturn(jedis))) {
+            result.init(props);
+        }
+        return result;
+    }
+}
@@ -39,6 +39,8 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final CacheOption sqlFingerprintCache;
+    
     private final String engineType;
     
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
@@ -46,6 +48,7 @@ public final class SQLParserRule implements GlobalRule {
         sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        sqlFingerprintCache = ruleConfig.getSqlFingerprintCache();
         engineType = "Standard";
     }
     
@@ -57,7 +60,7 @@ public final class SQLParserRule implements GlobalRule {
      */
     public SQLParserEngine getSQLParserEngine(final String databaseType) {
         return "Standard".equals(engineType)
-                ? new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled)
+                ? new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlFingerprintCache, sqlCommentParseEnabled)
                 : new SimpleSQLParserEngine();
     }
     
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber;
 
 import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCacheManager;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.ViewMetaDataChangedEvent;
@@ -77,6 +78,7 @@ public final class ResourceMetaDataChangedSubscriber {
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent event) {
         contextManager.dropSchema(event.getDatabaseName(), event.getSchemaName());
+        ExecutionPlanCacheManager.invalidate(event.getDatabaseName());
     }
     
     /**
@@ -88,6 +90,7 @@ public final class ResourceMetaDataChangedSubscriber {
     public synchronized void renew(final TableMetaDataChangedEvent event) {
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), event.getChangedTableMetaData(), null);
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), event.getDeletedTable(), null);
+        ExecutionPlanCacheManager.invalidate(event.getDatabaseName());
     }
     
     /**
@@ -99,5 +102,6 @@ public final class ResourceMetaDataChangedSubscriber {
     public synchronized void renew(final ViewMetaDataChangedEvent event) {
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), null, event.getChangedViewMetaData());
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), null, event.getDeletedView());
+        ExecutionPlanCacheManager.invalidate(event.getDatabaseName());
     }
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.Executor
 import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.PreparedStatementCacheManager;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -128,6 +129,7 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         SQLException sqlException = null;
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
+                PreparedStatementCacheManager.invalidate(each);
                 for (String eachSetSQL : setSQLs) {
                     statement.execute(eachSetSQL);
                 }
@@ -301,6 +303,7 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
                     if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                         each.rollback();
                     }
+                    PreparedStatementCacheManager.release(each);
                     each.close();
                 } catch (final SQLException ex) {
                     result.add(ex);
@@ -328,6 +331,7 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
         for (Connection each : values) {
             try (Statement statement = each.createStatement()) {
+                PreparedStatementCacheManager.invalidate(each);
                 for (String eachResetSQL : resetSQLs) {
                     statement.execute(eachResetSQL);
                 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Connection reservation of data source.
+ *
+ * <p>Queries acquiring several connections from a data source reserve them first. Queries acquire connections concurrently only if the pool has
+ * enough available connections for all of them, otherwise a query waits for concurrent acquisitions to finish and then acquires connections exclusively,
+ * so that queries never hold part of the connections while waiting for each other.
+ * If available connections of the pool are unknown, only one query is able to acquire connections at a time.</p>
+ */
+public final class ConnectionReservation {
+    
+    private final int maxPoolSize;
+    
+    private final ReentrantLock lock = new ReentrantLock(true);
+    
+    private final Condition acquisitionFinished = lock.newCondition();
+    
+    private int acquiringSize;
+    
+    public ConnectionReservation(final int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+    
+    /**
+     * Reserve connections.
+     *
+     * <p>Desired size is capped by max pool size. If reservation is timed out, fewer connections are reserved with connections still available.
+     * Exclusive reservation blocks other reservations until it is released, and it must be released by the same thread.</p>
+     *
+     * @param desiredSize desired size of connections
+     * @param availableConnections supplier of available connections in pool, negative if unknown
+     * @param timeoutMillis timeout milliseconds, less than or equal to 0 means waiting until reserved
+     * @return reserved size of connections, 0 if nothing is reserved
+     * @throws InterruptedException interrupted exception
+     */
+    public int reserve(final int desiredSize, final IntSupplier availableConnections, final long timeoutMillis) throws InterruptedException {
+        int result = maxPoolSize > 0 ? Math.min(desiredSize, maxPoolSize) : desiredSize;
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (timeoutMillis <= 0) {
+            lock.lockInterruptibly();
+        } else if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            return 0;
+        }
+        boolean exclusive = false;
+        try {
+            while (true) {
+                int available = availableConnections.getAsInt() - acquiringSize;
+                if (available >= result) {
+                    acquiringSize += result;
+                    return result;
+                }
+                if (0 == acquiringSize) {
+                    exclusive = true;
+                    return result;
+                }
+                if (timeoutMillis <= 0) {
+                    acquisitionFinished.await();
+                    continue;
+                }
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    if (available <= 0) {
+                        return 0;
+                    }
+                    acquiringSize += available;
+                    return available;
+                }
+                acquisitionFinished.awaitNanos(remainingNanos);
+            }
+        } finally {
+            if (!exclusive) {
+                lock.unlock();
+            }
+        }
+    }
+    
+    /**
+     * Release reserved connections after they are acquired.
+     *
+     * @param reservedSize reserved size of connections
+     */
+    public void release(final int reservedSize) {
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+            return;
+        }
+        lock.lock();
+        try {
+            acquiringSize -= reservedSize;
+            acquisitionFinished.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datasource.pool.capacity.DataSourcePoolCapacityDetector;
+import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.connector.BackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.api.TransactionType;
@@ -39,6 +45,8 @@ import java.util.List;
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private final Cache<DataSource, ConnectionReservation> connectionReservations = Caffeine.newBuilder().weakKeys().build();
+    
     /**
      * Get connections.
      *
@@ -65,7 +73,6 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName);
@@ -82,9 +89,35 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        return createConnectionsWithReservation(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+    }
+    
+    private List<Connection> createConnectionsWithReservation(final String databaseName, final String dataSourceName,
+                                                              final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
+        ConnectionReservation connectionReservation = connectionReservations.get(dataSource, unused -> new ConnectionReservation(getMaxPoolSize(dataSource)));
+        DataSourcePoolCapacityDetector capacityDetector = TypedSPILoader.getService(DataSourcePoolCapacityDetector.class, dataSource.getClass().getName());
+        long timeoutMillis = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS);
+        int reservedSize;
+        try {
+            reservedSize = connectionReservation.reserve(connectionSize, () -> capacityDetector.getAvailableConnections(dataSource), timeoutMillis);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            throw new OverallConnectionNotEnoughException(connectionSize, 0);
         }
+        if (0 == reservedSize) {
+            throw new OverallConnectionNotEnoughException(connectionSize, 0);
+        }
+        try {
+            return createConnections(databaseName, dataSourceName, dataSource, reservedSize, transactionType);
+        } finally {
+            connectionReservation.release(reservedSize);
+        }
+    }
+    
+    private int getMaxPoolSize(final DataSource dataSource) {
+        Object result = DataSourcePropertiesCreator.create(dataSource).getAllStandardProperties().get("maxPoolSize");
+        return null == result ? 0 : Integer.parseInt(result.toString());
     }
     
     private List<Connection> createConnections(final String databaseName, final String dataSourceName,
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
 
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -52,9 +54,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
                                            final DatabaseType databaseType) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> params = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(sql, connection, option);
         for (int i = 0; i < params.size(); i++) {
             Object param = params.get(i);
             if (param instanceof TypeUnspecifiedSQLParameter) {
@@ -69,6 +69,26 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement prepareStatement(final String sql, final Connection connection, final StatementOption option) throws SQLException {
+        if (option.isReturnGeneratedKeys()) {
+            return connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        }
+        int cacheSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        // Statements are prepared on physical connections which bypass transaction enlistment of connection wrappers, so only cache them in auto commit mode.
+        if (cacheSize <= 0 || !connection.getAutoCommit()) {
+            return connection.prepareStatement(sql);
+        }
+        Connection physicalConnection = PreparedStatementCacheManager.getPhysicalConnection(connection);
+        PreparedStatementCache cache = PreparedStatementCacheManager.getCache(physicalConnection, cacheSize);
+        Optional<PreparedStatement> cached = cache.borrow(sql, PreparedStatementCacheManager.getMetaDataVersion());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        PreparedStatement result = physicalConnection.prepareStatement(sql);
+        cache.register(sql, result);
+        return result;
+    }
+    
     private void setFetchSize(final Statement statement, final DatabaseType databaseType) throws SQLException {
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = TypedSPILoader.findService(StatementMemoryStrictlyFetchSizeSetter.class, databaseType.getType());
         if (fetchSizeSetter.isPresent()) {
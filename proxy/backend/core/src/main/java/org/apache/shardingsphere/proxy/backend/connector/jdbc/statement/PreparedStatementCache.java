@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Prepared statement cache of physical connection.
+ *
+ * <p>Idle statements are kept in least recently used order and keyed by SQL. A statement is borrowed out of the cache while executing,
+ * so that the same SQL executed more than once on one connection never shares a statement, and it is given back after its result is consumed.</p>
+ */
+@Slf4j
+public final class PreparedStatementCache {
+    
+    @Getter
+    private final int maxSize;
+    
+    private final Map<String, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final Map<PreparedStatement, BorrowedStatement> borrowedStatements = new IdentityHashMap<>();
+    
+    private long metaDataVersion;
+    
+    public PreparedStatementCache(final int maxSize, final long metaDataVersion) {
+        this.maxSize = maxSize;
+        this.metaDataVersion = metaDataVersion;
+    }
+    
+    /**
+     * Borrow idle prepared statement.
+     *
+     * @param sql SQL
+     * @param metaDataVersion current meta data version
+     * @return borrowed prepared statement, empty if no idle one cached
+     */
+    public synchronized Optional<PreparedStatement> borrow(final String sql, final long metaDataVersion) {
+        checkMetaDataVersion(metaDataVersion);
+        PreparedStatement result = idleStatements.remove(sql);
+        if (null == result || isClosed(result)) {
+            return Optional.empty();
+        }
+        borrowedStatements.put(result, new BorrowedStatement(sql, this.metaDataVersion));
+        return Optional.of(result);
+    }
+    
+    /**
+     * Register prepared statement created for SQL as borrowed.
+     *
+     * @param sql SQL
+     * @param statement prepared statement
+     */
+    public synchronized void register(final String sql, final PreparedStatement statement) {
+        borrowedStatements.put(statement, new BorrowedStatement(sql, metaDataVersion));
+    }
+    
+    /**
+     * Give back borrowed prepared statement.
+     *
+     * <p>Statement given back is reset by clearing parameters and batch, it is never cancelled because it will be reused.
+     * Statement prepared with an outdated meta data version, or replaced by another idle statement of the same SQL, will be closed.</p>
+     *
+     * @param statement prepared statement
+     * @param metaDataVersion current meta data version
+     * @return given back or not, statement not borrowed from this cache will not be given back
+     */
+    public synchronized boolean giveBack(final PreparedStatement statement, final long metaDataVersion) {
+        BorrowedStatement borrowed = borrowedStatements.remove(statement);
+        if (null == borrowed) {
+            return false;
+        }
+        checkMetaDataVersion(metaDataVersion);
+        if (borrowed.metaDataVersion != this.metaDataVersion || isClosed(statement)) {
+            close(statement);
+            return true;
+        }
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (final SQLException ex) {
+            close(statement);
+            return true;
+        }
+        PreparedStatement replaced = idleStatements.put(borrowed.sql, statement);
+        if (null != replaced) {
+            close(replaced);
+        }
+        evictIfNecessary();
+        return true;
+    }
+    
+    private void checkMetaDataVersion(final long metaDataVersion) {
+        if (this.metaDataVersion < metaDataVersion) {
+            closeIdleStatements();
+            this.metaDataVersion = metaDataVersion;
+        }
+    }
+    
+    private void evictIfNecessary() {
+        Iterator<Entry<String, PreparedStatement>> iterator = idleStatements.entrySet().iterator();
+        while (idleStatements.size() > maxSize && iterator.hasNext()) {
+            PreparedStatement eldest = iterator.next().getValue();
+            iterator.remove();
+            close(eldest);
+        }
+    }
+    
+    /**
+     * Close idle prepared statements.
+     */
+    public synchronized void closeIdleStatements() {
+        Collection<PreparedStatement> statements = new ArrayList<>(idleStatements.values());
+        idleStatements.clear();
+        statements.forEach(this::close);
+    }
+    
+    /**
+     * Close prepared statements which are borrowed and never given back.
+     */
+    public synchronized void closeBorrowedStatements() {
+        Collection<PreparedStatement> statements = new ArrayList<>(borrowedStatements.keySet());
+        borrowedStatements.clear();
+        statements.forEach(this::close);
+    }
+    
+    /**
+     * Get idle prepared statement count.
+     *
+     * @return idle prepared statement count
+     */
+    public synchronized int getIdleSize() {
+        return idleStatements.size();
+    }
+    
+    private boolean isClosed(final PreparedStatement statement) {
+        try {
+            return statement.isClosed();
+        } catch (final SQLException ex) {
+            return true;
+        }
+    }
+    
+    private void close(final PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ex) {
+            log.warn("Close cached prepared statement failed", ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BorrowedStatement {
+        
+        private final String sql;
+        
+        private final long metaDataVersion;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.ViewMetaDataChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaDeletedEvent;
+
+/**
+ * Prepared statement cache invalidated subscriber.
+ *
+ * <p>DDL executed by other compute nodes of cluster is only noticed by meta data changed events, cached prepared statements of all connections are invalidated on them.</p>
+ */
+@SuppressWarnings("UnstableApiUsage")
+public final class PreparedStatementCacheInvalidatedSubscriber {
+    
+    public PreparedStatementCacheInvalidatedSubscriber(final EventBusContext eventBusContext) {
+        eventBusContext.register(this);
+    }
+    
+    /**
+     * Invalidate prepared statement caches on schema deleted.
+     *
+     * @param event schema deleted event
+     */
+    @Subscribe
+    public void invalidate(final SchemaDeletedEvent event) {
+        PreparedStatementCacheManager.invalidateAll();
+    }
+    
+    /**
+     * Invalidate prepared statement caches on table meta data changed.
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final TableMetaDataChangedEvent event) {
+        PreparedStatementCacheManager.invalidateAll();
+    }
+    
+    /**
+     * Invalidate prepared statement caches on view meta data changed.
+     *
+     * @param event view meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final ViewMetaDataChangedEvent event) {
+        PreparedStatementCacheManager.invalidateAll();
+    }
+}
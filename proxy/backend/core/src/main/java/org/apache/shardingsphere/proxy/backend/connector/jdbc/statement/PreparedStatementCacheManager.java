@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepared statement cache manager.
+ *
+ * <p>Caches are bound to physical connections rather than pooled connection proxies, because connection pools close statements
+ * of proxies when connections are returned to pool. Cached statements of all connections are invalidated once meta data changed.</p>
+ *
+ * <p>Cached statements reference their physical connections, so caches are removed explicitly once physical connections are closed by pool:
+ * a closed connection is purged when its cache is looked up, and all closed connections are purged when cache of a new physical connection is created.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class PreparedStatementCacheManager {
+    
+    private static final Map<Connection, PreparedStatementCache> CACHES = new ConcurrentHashMap<>();
+    
+    private static final AtomicLong META_DATA_VERSION = new AtomicLong();
+    
+    /**
+     * Get physical connection.
+     *
+     * @param connection connection
+     * @return physical connection
+     * @throws SQLException SQL exception
+     */
+    public static Connection getPhysicalConnection(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+    }
+    
+    /**
+     * Get prepared statement cache of physical connection.
+     *
+     * @param physicalConnection physical connection
+     * @param maxSize max size of cached prepared statements
+     * @return prepared statement cache
+     */
+    public static PreparedStatementCache getCache(final Connection physicalConnection, final int maxSize) {
+        PreparedStatementCache result = CACHES.get(physicalConnection);
+        if (null == result) {
+            purgeClosedConnections();
+            result = CACHES.computeIfAbsent(physicalConnection, unused -> new PreparedStatementCache(maxSize, META_DATA_VERSION.get()));
+        }
+        if (result.getMaxSize() != maxSize) {
+            result.closeIdleStatements();
+            result = new PreparedStatementCache(maxSize, META_DATA_VERSION.get());
+            CACHES.put(physicalConnection, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Find prepared statement cache of physical connection.
+     *
+     * @param physicalConnection physical connection
+     * @return prepared statement cache
+     */
+    public static Optional<PreparedStatementCache> findCache(final Connection physicalConnection) {
+        PreparedStatementCache result = CACHES.get(physicalConnection);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (isClosed(physicalConnection)) {
+            remove(physicalConnection, result);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    private static void purgeClosedConnections() {
+        for (Entry<Connection, PreparedStatementCache> entry : CACHES.entrySet()) {
+            if (isClosed(entry.getKey())) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    private static void remove(final Connection physicalConnection, final PreparedStatementCache cache) {
+        if (CACHES.remove(physicalConnection, cache)) {
+            cache.closeIdleStatements();
+            cache.closeBorrowedStatements();
+        }
+    }
+    
+    private static boolean isClosed(final Connection physicalConnection) {
+        try {
+            return physicalConnection.isClosed();
+        } catch (final SQLException ex) {
+            log.warn("Check physical connection closed failed", ex);
+            return true;
+        }
+    }
+    
+    /**
+     * Get current meta data version.
+     *
+     * @return current meta data version
+     */
+    public static long getMetaDataVersion() {
+        return META_DATA_VERSION.get();
+    }
+    
+    /**
+     * Give back prepared statement to cache of its connection.
+     *
+     * @param statement prepared statement
+     * @return given back or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean giveBack(final PreparedStatement statement) throws SQLException {
+        if (CACHES.isEmpty()) {
+            return false;
+        }
+        Optional<PreparedStatementCache> cache = findCache(statement.getConnection());
+        return cache.isPresent() && cache.get().giveBack(statement, META_DATA_VERSION.get());
+    }
+    
+    /**
+     * Invalidate prepared statements of connection.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public static void invalidate(final Connection connection) throws SQLException {
+        if (!CACHES.isEmpty()) {
+            findCache(getPhysicalConnection(connection)).ifPresent(PreparedStatementCache::closeIdleStatements);
+        }
+    }
+    
+    /**
+     * Release connection and close prepared statements which are borrowed by it and never given back.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public static void release(final Connection connection) throws SQLException {
+        if (!CACHES.isEmpty()) {
+            findCache(getPhysicalConnection(connection)).ifPresent(PreparedStatementCache::closeBorrowedStatements);
+        }
+    }
+    
+    /**
+     * Invalidate prepared statements of all connections.
+     */
+    public static void invalidateAll() {
+        META_DATA_VERSION.incrementAndGet();
+    }
+}
@@ -47,6 +47,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.PreparedStatementCacheManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
@@ -68,6 +69,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.plugins.MemberAccessor;
 
 import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -89,6 +91,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -155,6 +158,7 @@ class DatabaseConnectorTest {
         QueryResponseRow actualRow = engine.getRowData();
         assertThat(actualRow.getCells().get(0).getJdbcType(), is(Types.INTEGER));
         assertThat(actualRow.getCells().get(0).getData(), is(Integer.MAX_VALUE));
+        assertThat(engine.getRowValues(), is(Collections.<Object>singletonList(Integer.MAX_VALUE)));
         assertFalse(engine.next());
         engine.close();
         verify(federationExecutor).close();
@@ -248,6 +252,23 @@ class DatabaseConnectorTest {
         assertTrue(cachedStatements.isEmpty());
     }
     
+    @Test
+    void assertCloseCachedPreparedStatementWithoutCancel() throws SQLException {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), backendConnection, false);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
+        cachedStatements.add(preparedStatement);
+        try (MockedStatic<PreparedStatementCacheManager> cacheManager = mockStatic(PreparedStatementCacheManager.class)) {
+            cacheManager.when(() -> PreparedStatementCacheManager.giveBack(preparedStatement)).thenReturn(true);
+            engine.close();
+        }
+        verify(preparedStatement, never()).cancel();
+        verify(preparedStatement, never()).close();
+        assertTrue(cachedStatements.isEmpty());
+    }
+    
     @Test
     void assertCloseResultSetsWithExceptionThrown() throws SQLException {
         SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
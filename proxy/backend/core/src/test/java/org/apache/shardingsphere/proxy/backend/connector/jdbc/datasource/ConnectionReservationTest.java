@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionReservationTest {
+    
+    @Test
+    void assertReserveWithinAvailableConnections() throws InterruptedException {
+        ConnectionReservation reservation = new ConnectionReservation(5);
+        assertThat(reservation.reserve(3, () -> 5, 0L), is(3));
+        assertThat(reservation.reserve(2, () -> 5, 10L), is(2));
+    }
+    
+    @Test
+    void assertReserveCappedByMaxPoolSize() throws InterruptedException {
+        assertThat(new ConnectionReservation(5).reserve(8, () -> 5, 0L), is(5));
+    }
+    
+    @Test
+    void assertReserveFewerConnectionsWhenTimedOut() throws InterruptedException {
+        ConnectionReservation reservation = new ConnectionReservation(5);
+        assertThat(reservation.reserve(3, () -> 5, 0L), is(3));
+        assertThat(reservation.reserve(4, () -> 5, 10L), is(2));
+        assertThat(reservation.reserve(1, () -> 5, 10L), is(0));
+    }
+    
+    @Test
+    void assertReserveAfterRelease() throws InterruptedException {
+        ConnectionReservation reservation = new ConnectionReservation(5);
+        assertThat(reservation.reserve(5, () -> 5, 0L), is(5));
+        reservation.release(5);
+        assertThat(reservation.reserve(5, () -> 5, 10L), is(5));
+    }
+    
+    @Test
+    void assertReserveExclusivelyWithUnknownAvailableConnections() throws InterruptedException, ExecutionException, TimeoutException {
+        ConnectionReservation reservation = new ConnectionReservation(0);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(reservation.reserve(8, () -> -1, 0L), is(8));
+            assertThat(executorService.submit(() -> reservation.reserve(2, () -> -1, 10L)).get(1L, TimeUnit.SECONDS), is(0));
+            reservation.release(8);
+            assertThat(executorService.submit(() -> reserveAndRelease(reservation, 2, () -> -1)).get(1L, TimeUnit.SECONDS), is(2));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertReserveExclusivelyWhenPoolIsPartiallyInUse() throws InterruptedException, ExecutionException, TimeoutException {
+        ConnectionReservation reservation = new ConnectionReservation(10);
+        AtomicInteger availableConnections = new AtomicInteger(6);
+        assertThat(reservation.reserve(6, availableConnections::get, 0L), is(6));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> another = executorService.submit(() -> reserveAndRelease(reservation, 4, availableConnections::get));
+            assertThrows(TimeoutException.class, () -> another.get(100L, TimeUnit.MILLISECONDS));
+            availableConnections.addAndGet(-6);
+            reservation.release(6);
+            assertThat(another.get(1L, TimeUnit.SECONDS), is(4));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private int reserveAndRelease(final ConnectionReservation reservation, final int desiredSize, final IntSupplier availableConnections) throws InterruptedException {
+        int result = reservation.reserve(desiredSize, availableConnections, 0L);
+        reservation.release(result);
+        return result;
+    }
+}
@@ -120,6 +120,13 @@ class JDBCBackendDataSourceTest {
         assertThat(actual.size(), is(5));
     }
     
+    @Test
+    void assertGetConnectionsRepeatedlyWithUnknownPoolCapacity() throws SQLException {
+        JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource();
+        assertThat(jdbcBackendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 2, ConnectionMode.MEMORY_STRICTLY).size(), is(2));
+        assertThat(jdbcBackendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 3, ConnectionMode.MEMORY_STRICTLY).size(), is(3));
+    }
+    
     @Test
     void assertGetConnectionsFailed() {
         assertThrows(OverallConnectionNotEnoughException.class, () -> new JDBCBackendDataSource().getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 6, ConnectionMode.MEMORY_STRICTLY));
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.ViewMetaDataChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.event.SchemaDeletedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PreparedStatementCacheInvalidatedSubscriberTest {
+    
+    @Test
+    void assertInvalidateOnMetaDataChangedEvents() {
+        EventBusContext eventBusContext = new EventBusContext();
+        new PreparedStatementCacheInvalidatedSubscriber(eventBusContext);
+        long expected = PreparedStatementCacheManager.getMetaDataVersion();
+        eventBusContext.post(new TableMetaDataChangedEvent("foo_db", "foo_schema", null, "foo_tbl"));
+        eventBusContext.post(new ViewMetaDataChangedEvent("foo_db", "foo_schema", null, "foo_view"));
+        eventBusContext.post(new SchemaDeletedEvent("foo_db", "foo_schema"));
+        assertThat(PreparedStatementCacheManager.getMetaDataVersion(), is(expected + 3L));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementCacheManagerTest {
+    
+    @Test
+    void assertFindCacheOfRetiredConnection() throws SQLException, ReflectiveOperationException {
+        Connection connection = mock(Connection.class);
+        PreparedStatementCache cache = PreparedStatementCacheManager.getCache(connection, 2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register("SELECT 1", statement);
+        assertTrue(PreparedStatementCacheManager.findCache(connection).isPresent());
+        when(connection.isClosed()).thenReturn(true);
+        assertFalse(PreparedStatementCacheManager.findCache(connection).isPresent());
+        assertFalse(getCaches().containsKey(connection));
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertPurgeRetiredConnectionWhenNewConnectionCached() throws SQLException, ReflectiveOperationException {
+        Connection retiredConnection = mock(Connection.class);
+        PreparedStatementCacheManager.getCache(retiredConnection, 2);
+        when(retiredConnection.isClosed()).thenReturn(true);
+        Connection newConnection = mock(Connection.class);
+        PreparedStatementCache actual = PreparedStatementCacheManager.getCache(newConnection, 2);
+        assertFalse(getCaches().containsKey(retiredConnection));
+        assertThat(getCaches().get(newConnection), is(actual));
+        when(newConnection.isClosed()).thenReturn(true);
+        assertFalse(PreparedStatementCacheManager.findCache(newConnection).isPresent());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<Connection, PreparedStatementCache> getCaches() throws ReflectiveOperationException {
+        return (Map<Connection, PreparedStatementCache>) Plugins.getMemberAccessor().get(PreparedStatementCacheManager.class.getDeclaredField("CACHES"), null);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementCacheTest {
+    
+    @Test
+    void assertBorrowAfterGiveBack() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2, 0L);
+        assertFalse(cache.borrow("SELECT 1", 0L).isPresent());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register("SELECT 1", statement);
+        assertTrue(cache.giveBack(statement, 0L));
+        verify(statement).clearParameters();
+        verify(statement).clearBatch();
+        Optional<PreparedStatement> actual = cache.borrow("SELECT 1", 0L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(statement));
+        assertFalse(cache.borrow("SELECT 1", 0L).isPresent());
+    }
+    
+    @Test
+    void assertGiveBackNotBorrowedStatement() {
+        assertFalse(new PreparedStatementCache(2, 0L).giveBack(mock(PreparedStatement.class), 0L));
+    }
+    
+    @Test
+    void assertEvictLeastRecentlyUsed() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2, 0L);
+        PreparedStatement first = giveBack(cache, "SELECT 1");
+        PreparedStatement second = giveBack(cache, "SELECT 2");
+        cache.giveBack(cache.borrow("SELECT 1", 0L).orElse(null), 0L);
+        giveBack(cache, "SELECT 3");
+        assertThat(cache.getIdleSize(), is(2));
+        verify(first, never()).close();
+        verify(second).close();
+    }
+    
+    @Test
+    void assertInvalidateByMetaDataVersion() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2, 0L);
+        PreparedStatement idle = giveBack(cache, "SELECT 1");
+        PreparedStatement borrowed = mock(PreparedStatement.class);
+        cache.register("SELECT 2", borrowed);
+        assertFalse(cache.borrow("SELECT 1", 1L).isPresent());
+        verify(idle).close();
+        assertTrue(cache.giveBack(borrowed, 1L));
+        assertThat(cache.getIdleSize(), is(0));
+        verify(borrowed).close();
+    }
+    
+    @Test
+    void assertSkipClosedStatement() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2, 0L);
+        PreparedStatement statement = giveBack(cache, "SELECT 1");
+        when(statement.isClosed()).thenReturn(true);
+        assertFalse(cache.borrow("SELECT 1", 0L).isPresent());
+    }
+    
+    @Test
+    void assertCloseBorrowedStatements() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2, 0L);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register("SELECT 1", statement);
+        cache.closeBorrowedStatements();
+        verify(statement).close();
+        assertFalse(cache.giveBack(statement, 0L));
+    }
+    
+    private PreparedStatement giveBack(final PreparedStatementCache cache, final String sql) {
+        PreparedStatement result = mock(PreparedStatement.class);
+        cache.register(sql, result);
+        cache.giveBack(result, 0L);
+        return result;
+    }
+}
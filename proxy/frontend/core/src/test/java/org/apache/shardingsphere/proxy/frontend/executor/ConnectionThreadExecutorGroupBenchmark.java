@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for connection thread executor group.
+ * 
+ * <p>
+ * Many client connections are registered, and every connection executes a command blocking as a backend JDBC call does at the same time.
+ * Platform threads and virtual threads of connections are compared, virtual threads require Java 21 or above.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConnectionThreadExecutorGroupBenchmark {
+    
+    private static final long BLOCKING_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    @Param({"1000", "10000"})
+    private int connectionCount;
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    /**
+     * Register connections.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().register(i, virtualThreadEnabled);
+        }
+    }
+    
+    /**
+     * Unregister connections.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(i);
+        }
+    }
+    
+    /**
+     * Execute one blocking command on every connection and wait for all of them.
+     *
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Benchmark
+    public void executeCommands() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            futures.add(ConnectionThreadExecutorGroup.getInstance().get(i).submit(() -> LockSupport.parkNanos(BLOCKING_NANOS)));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+    }
+}
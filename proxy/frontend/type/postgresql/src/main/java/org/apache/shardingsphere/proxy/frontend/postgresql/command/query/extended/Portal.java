@@ -18,10 +18,11 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
 import lombok.Getter;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
@@ -40,8 +41,6 @@ import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -78,6 +77,8 @@ public final class Portal {
     
     private ResponseHeader responseHeader;
     
+    private PostgreSQLDataRowEncoder rowEncoder;
+    
     public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
                   final BackendConnection backendConnection) throws SQLException {
         this.name = name;
@@ -102,6 +103,18 @@ public final class Portal {
      */
     public void bind() throws SQLException {
         responseHeader = proxyBackendHandler.execute();
+        if (responseHeader instanceof QueryResponseHeader) {
+            rowEncoder = createRowEncoder((QueryResponseHeader) responseHeader);
+        }
+    }
+    
+    private PostgreSQLDataRowEncoder createRowEncoder(final QueryResponseHeader queryResponseHeader) {
+        List<BinaryColumnType> binaryColumnTypes = new ArrayList<>(queryResponseHeader.getQueryHeaders().size());
+        int columnIndex = 0;
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            binaryColumnTypes.add(PostgreSQLValueFormat.BINARY == determineValueFormat(columnIndex++) ? PostgreSQLColumnType.valueOfJDBCType(each.getColumnType()) : null);
+        }
+        return new PostgreSQLDataRowEncoder(binaryColumnTypes);
     }
     
     /**
@@ -169,28 +182,13 @@ public final class Portal {
     }
     
     private PostgreSQLPacket nextPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(getData(proxyBackendHandler.getRowData()));
-    }
-    
-    private List<Object> getData(final QueryResponseRow queryResponseRow) {
-        Collection<QueryResponseCell> cells = queryResponseRow.getCells();
-        List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : columns.get(i).getData());
-        }
-        return result;
+        return new PostgreSQLDataRowPacket(rowEncoder, proxyBackendHandler.getRowValues());
     }
     
     private PostgreSQLValueFormat determineValueFormat(final int columnIndex) {
         return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
     }
     
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType()), cell.getData());
-    }
-    
     private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
         if (isSuspended) {
             suspendPortal();
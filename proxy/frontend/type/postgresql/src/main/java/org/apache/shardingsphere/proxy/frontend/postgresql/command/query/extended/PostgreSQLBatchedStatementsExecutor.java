@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -33,6 +36,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.BatchInsertCoalescer;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -43,6 +47,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -53,9 +58,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -82,6 +89,8 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private final ExecutionContext anyExecutionContext;
     
+    private final Map<Statement, CoalescedBatch> coalescedBatches = new IdentityHashMap<>();
+    
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
     public PostgreSQLBatchedStatementsExecutor(final ConnectionSession connectionSession, final PostgreSQLServerPreparedStatement preparedStatement, final List<List<Object>> parameterSets) {
@@ -153,35 +162,69 @@ public final class PostgreSQLBatchedStatementsExecutor {
                 new StatementOption(false), rules, metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData().getStorageTypes());
         executionGroupContext = prepareEngine.prepare(anyExecutionContext.getRouteContext(), executionUnitParams.keySet(),
                 new ExecutionGroupReportContext(connectionSession.getDatabaseName(), connectionSession.getGrantee(), connectionSession.getExecutionId()));
+        int coalescingMaxParameters = anyExecutionContext.getSqlStatementContext() instanceof InsertStatementContext
+                ? metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCING_MAX_PARAMETERS)
+                : 0;
         for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit each : eachGroup.getInputs()) {
-                prepareJDBCExecutionUnit(each);
+                if (coalescingMaxParameters <= 0 || !coalesceJDBCExecutionUnit(each, coalescingMaxParameters)) {
+                    prepareJDBCExecutionUnit(each);
+                }
             }
         }
     }
     
+    private boolean coalesceJDBCExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit, final int coalescingMaxParameters) {
+        List<List<Object>> paramSets = executionUnitParams.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList());
+        if (paramSets.size() < 2) {
+            return false;
+        }
+        ExecutionUnit executionUnit = jdbcExecutionUnit.getExecutionUnit();
+        Optional<BatchInsertCoalescer> coalescer = BatchInsertCoalescer.create(executionUnit.getSqlUnit().getSql(), parseActualSQL(executionUnit), paramSets.get(0).size(), coalescingMaxParameters);
+        if (!coalescer.isPresent()) {
+            return false;
+        }
+        List<List<Object>> convertedParamSets = new ArrayList<>(paramSets.size());
+        for (List<Object> eachGroupParam : paramSets) {
+            List<Object> convertedParams = new ArrayList<>(eachGroupParam.size());
+            for (Object each : eachGroupParam) {
+                convertedParams.add(convertParameter(each));
+            }
+            convertedParamSets.add(convertedParams);
+        }
+        coalescedBatches.put(jdbcExecutionUnit.getStorageResource(), new CoalescedBatch(coalescer.get(), convertedParamSets));
+        return true;
+    }
+    
+    private SQLStatement parseActualSQL(final ExecutionUnit executionUnit) {
+        DatabaseType storageType = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData().getStorageType(executionUnit.getDataSourceName());
+        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        return sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(storageType)).parse(executionUnit.getSqlUnit().getSql(), true);
+    }
+    
     private void prepareJDBCExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) jdbcExecutionUnit.getStorageResource();
         for (List<Object> eachGroupParam : executionUnitParams.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList())) {
             ListIterator<Object> params = eachGroupParam.listIterator();
             while (params.hasNext()) {
                 int paramIndex = params.nextIndex() + 1;
-                Object value = params.next();
-                if (value instanceof PostgreSQLTypeUnspecifiedSQLParameter) {
-                    value = value.toString();
-                }
-                preparedStatement.setObject(paramIndex, value);
+                preparedStatement.setObject(paramIndex, convertParameter(params.next()));
             }
             preparedStatement.addBatch();
         }
     }
     
+    private Object convertParameter(final Object param) {
+        return param instanceof PostgreSQLTypeUnspecifiedSQLParameter ? param.toString() : param;
+    }
+    
     private int executeBatchedPreparedStatements() throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
         DatabaseType protocolType = database.getProtocolType();
-        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, storageTypes, preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
+        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, storageTypes, preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown,
+                coalescedBatches);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int result = 0;
         for (int[] eachResult : executeResults) {
@@ -194,14 +237,19 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private static class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        private final Map<Statement, CoalescedBatch> coalescedBatches;
+        
+        BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                              final Map<Statement, CoalescedBatch> coalescedBatches) {
             super(protocolType, storageTypes, sqlStatement, isExceptionThrown);
+            this.coalescedBatches = coalescedBatches;
         }
         
         @Override
         protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
             try {
-                return statement.executeBatch();
+                CoalescedBatch coalescedBatch = coalescedBatches.get(statement);
+                return null == coalescedBatch ? statement.executeBatch() : coalescedBatch.coalescer.executeBatch(statement.getConnection(), coalescedBatch.paramSets);
             } finally {
                 statement.close();
             }
@@ -213,4 +261,12 @@ public final class PostgreSQLBatchedStatementsExecutor {
             return Optional.empty();
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class CoalescedBatch {
+        
+        private final BatchInsertCoalescer coalescer;
+        
+        private final List<List<Object>> paramSets;
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFingerprintParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLFingerprintParserTest {
+    
+    private final SQLParserEngine parserEngine = new SQLParserEngine("MySQL", new CacheOption(1, 1L));
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", true, new Properties());
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertParseWithSameFingerprint(final String caseId, final String templateSQL, final String sql) throws IllegalAccessException {
+        assertThat(SQLFingerprint.newInstance(sql, MySQLLexer.class).getValue(), is(SQLFingerprint.newInstance(templateSQL, MySQLLexer.class).getValue()));
+        SQLFingerprintParserEngine fingerprintParserEngine = new SQLFingerprintParserEngine("MySQL", new CacheOption(1, 1L));
+        assertSameStatement(fingerprintParserEngine.parse(templateSQL, visitorEngine::visit), parse(templateSQL));
+        assertSameStatement(fingerprintParserEngine.parse(sql, visitorEngine::visit), parse(sql));
+        assertSameStatement(fingerprintParserEngine.parse(templateSQL, visitorEngine::visit), parse(templateSQL));
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(DifferentFingerprintArgumentsProvider.class)
+    void assertParseWithDifferentFingerprint(final String caseId, final String templateSQL, final String sql) throws IllegalAccessException {
+        assertThat(SQLFingerprint.newInstance(sql, MySQLLexer.class).getValue(), not(SQLFingerprint.newInstance(templateSQL, MySQLLexer.class).getValue()));
+        SQLFingerprintParserEngine fingerprintParserEngine = new SQLFingerprintParserEngine("MySQL", new CacheOption(16, 16L));
+        assertSameStatement(fingerprintParserEngine.parse(templateSQL, visitorEngine::visit), parse(templateSQL));
+        assertSameStatement(fingerprintParserEngine.parse(sql, visitorEngine::visit), parse(sql));
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return visitorEngine.visit(parserEngine.parse(sql, false));
+    }
+    
+    private void assertSameStatement(final SQLStatement actual, final SQLStatement expected) throws IllegalAccessException {
+        assertSameValue(actual, expected, "statement", new IdentityHashMap<>());
+    }
+    
+    private void assertSameValue(final Object actual, final Object expected, final String path, final Map<Object, Object> visited) throws IllegalAccessException {
+        if (null == expected || null == actual) {
+            assertTrue(null == expected && null == actual, path);
+            return;
+        }
+        assertThat(path, actual.getClass(), is(expected.getClass()));
+        if (expected instanceof String || expected instanceof Number || expected instanceof Boolean || expected instanceof Character || expected instanceof Enum) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        if (visited.containsKey(expected)) {
+            return;
+        }
+        visited.put(expected, actual);
+        if (expected instanceof Collection) {
+            assertThat(path, ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertSameValue(actualIterator.next(), each, path + "[" + index++ + "]", visited);
+            }
+            return;
+        }
+        if (expected instanceof Map) {
+            assertThat(path, ((Map<?, ?>) actual).size(), is(((Map<?, ?>) expected).size()));
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) expected).entrySet()) {
+                assertSameValue(((Map<?, ?>) actual).get(entry.getKey()), entry.getValue(), path + "." + entry.getKey(), visited);
+            }
+            return;
+        }
+        for (Class<?> clazz = expected.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    assertSameValue(each.get(actual), each.get(expected), path + "." + each.getName(), visited);
+                }
+            }
+        }
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(Arguments.of("select_with_literals", "SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'",
+                    "select *  from   t_user where user_id=1234567 and status = 'abcdef'"),
+                    Arguments.of("select_with_limit", "SELECT order_id, user_id FROM t_order WHERE user_id IN (1, 2, 3) ORDER BY order_id DESC LIMIT 10, 20",
+                            "SELECT item_id, order_id FROM t_order_item WHERE order_id IN (100, 2000, 30000) ORDER BY item_id DESC LIMIT 0, 1000"),
+                    Arguments.of("select_with_comment", "/* comment */ SELECT * FROM t_order WHERE order_id = 1",
+                            "SELECT * FROM t_order -- another comment\n WHERE order_id = 987654321"),
+                    Arguments.of("insert_with_literals", "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 2, 'init'), (3, 4, 'paid')",
+                            "INSERT INTO t_order_item (item_id, order_id, status) VALUES (10000, 20000, 'first item'), (30000, 40000, '')"),
+                    Arguments.of("update_with_literals", "UPDATE t_order SET status = 'paid', amount = 1.5 WHERE order_id = 1",
+                            "UPDATE t_order_item SET status = 'finished', amount = 1000.25 WHERE user_id = 99"),
+                    Arguments.of("delete_with_literals", "DELETE FROM t_order WHERE order_id BETWEEN 1 AND 10", "DELETE FROM t_order WHERE user_id BETWEEN 100 AND 1000"));
+        }
+    }
+    
+    private static class DifferentFingerprintArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(Arguments.of("number_and_string", "SELECT * FROM t_order WHERE order_id = 1", "SELECT * FROM t_order WHERE order_id = '1'"),
+                    Arguments.of("in_list_size", "SELECT * FROM t_order WHERE order_id IN (1, 2)", "SELECT * FROM t_order WHERE order_id IN (1, 2, 3)"));
+        }
+    }
+}
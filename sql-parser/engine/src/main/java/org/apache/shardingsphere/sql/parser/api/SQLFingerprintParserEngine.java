@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.ParseTreeTemplate;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
+
+import java.util.function.Function;
+
+/**
+ * SQL fingerprint parser engine.
+ * 
+ * <p>
+ * Caches parse tree templates by SQL fingerprint, SQL which hits the cache is only lexed and its literals are bound to the cached parse tree for visiting.
+ * </p>
+ */
+public final class SQLFingerprintParserEngine {
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, ParseTreeTemplate> parseTreeTemplateCache;
+    
+    public SQLFingerprintParserEngine(final String databaseType, final CacheOption cacheOption) {
+        lexerClass = TypedSPILoader.getService(DatabaseTypedSQLParserFacade.class, databaseType).getLexerClass();
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        parseTreeTemplateCache = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    /**
+     * Parse SQL and visit parse AST node.
+     *
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse AST node
+     * @param <T> type of visit result
+     * @return visit result
+     */
+    public <T> T parse(final String sql, final Function<ParseASTNode, T> visitor) {
+        SQLFingerprint fingerprint = SQLFingerprint.newInstance(sql, lexerClass);
+        return parseTreeTemplateCache.get(fingerprint.getValue(), key -> ParseTreeTemplate.newInstance(sql, sqlParserExecutor)).visit(fingerprint, visitor);
+    }
+}
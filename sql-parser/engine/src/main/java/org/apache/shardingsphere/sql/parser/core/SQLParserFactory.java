@@ -24,10 +24,12 @@ import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CodePointBuffer;
 import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenFactory;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
@@ -49,24 +51,46 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return newInstance(sql, lexerClass, parserClass, CommonTokenFactory.DEFAULT);
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
-        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
-        ((Parser) result).setErrorHandler(new BailErrorStrategy());
-        ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
-        return result;
+    /**
+     * Create new instance of SQL parser.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @param tokenFactory token factory of lexer
+     * @return created instance
+     */
+    public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass, final TokenFactory<?> tokenFactory) {
+        return createSQLParser(newTokenStream(sql, lexerClass, tokenFactory), parserClass);
     }
     
+    /**
+     * Create new token stream.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param tokenFactory token factory of lexer
+     * @return created token stream
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
+    public static CommonTokenStream newTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass, final TokenFactory<?> tokenFactory) {
         Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
         lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        lexer.setTokenFactory(tokenFactory);
         return new CommonTokenStream(lexer);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
+        ((Parser) result).setErrorHandler(new BailErrorStrategy());
+        ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
+        return result;
+    }
+    
     private static CharStream getSQLCharStream(final String sql) {
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
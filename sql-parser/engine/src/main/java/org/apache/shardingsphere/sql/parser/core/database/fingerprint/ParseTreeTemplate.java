@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Parse tree template.
+ * 
+ * <p>
+ * Parse tree shared by SQLs with the same fingerprint, tokens of the tree are bound to tokens of the SQL being visited on current thread.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeTemplate {
+    
+    private final ThreadLocal<List<Token>> boundTokens;
+    
+    private final ParseTree parseTree;
+    
+    /**
+     * Create parse tree template.
+     *
+     * @param sql SQL to be parsed
+     * @param sqlParserExecutor SQL parser executor
+     * @return created parse tree template
+     */
+    public static ParseTreeTemplate newInstance(final String sql, final SQLParserExecutor sqlParserExecutor) {
+        ThreadLocal<List<Token>> boundTokens = new ThreadLocal<>();
+        ParseASTNode parseASTNode = sqlParserExecutor.parse(sql, new TemplateTokenFactory(boundTokens));
+        return new ParseTreeTemplate(boundTokens, parseASTNode.getRootNode().getParent());
+    }
+    
+    /**
+     * Visit parse tree template with tokens of SQL fingerprint.
+     *
+     * @param fingerprint SQL fingerprint which has the same value as the SQL of template
+     * @param visitor visitor of parse AST node
+     * @param <T> type of visit result
+     * @return visit result
+     */
+    public <T> T visit(final SQLFingerprint fingerprint, final Function<ParseASTNode, T> visitor) {
+        List<Token> previousTokens = boundTokens.get();
+        boundTokens.set(fingerprint.getTokens());
+        try {
+            return visitor.apply(new ParseASTNode(parseTree, fingerprint.getTokenStream()));
+        } finally {
+            if (null == previousTokens) {
+                boundTokens.remove();
+            } else {
+                boundTokens.set(previousTokens);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL fingerprint.
+ * 
+ * <p>
+ * Fingerprint is the type sequence of tokens which are visible to parser, so SQLs differ only in literals, identifiers or comments share the same fingerprint and parse tree.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class SQLFingerprint {
+    
+    private final String value;
+    
+    private final CommonTokenStream tokenStream;
+    
+    private final List<Token> tokens;
+    
+    /**
+     * Create SQL fingerprint with lexer only.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @return created SQL fingerprint
+     */
+    public static SQLFingerprint newInstance(final String sql, final Class<? extends SQLLexer> lexerClass) {
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, lexerClass, CommonTokenFactory.DEFAULT);
+        tokenStream.fill();
+        List<Token> tokens = new ArrayList<>(tokenStream.size());
+        StringBuilder value = new StringBuilder(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                tokens.add(each);
+                value.append((char) each.getType());
+            }
+        }
+        return new SQLFingerprint(value.toString(), tokenStream, tokens);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.List;
+
+/**
+ * Template token.
+ * 
+ * <p>
+ * Token of parse tree template, text and position are read from the token at the same ordinal of SQL bound to current thread.
+ * </p>
+ */
+final class TemplateToken extends CommonToken {
+    
+    private static final long serialVersionUID = 5138393458165483424L;
+    
+    private final transient ThreadLocal<List<Token>> boundTokens;
+    
+    private final int ordinal;
+    
+    TemplateToken(final Pair<TokenSource, CharStream> source, final int type, final int channel, final int start, final int stop,
+                  final ThreadLocal<List<Token>> boundTokens, final int ordinal) {
+        super(source, type, channel, start, stop);
+        this.boundTokens = boundTokens;
+        this.ordinal = ordinal;
+    }
+    
+    TemplateToken(final int type, final String text, final ThreadLocal<List<Token>> boundTokens) {
+        super(type, text);
+        this.boundTokens = boundTokens;
+        ordinal = -1;
+    }
+    
+    private Token getBoundToken() {
+        if (ordinal < 0) {
+            return null;
+        }
+        List<Token> tokens = boundTokens.get();
+        return null == tokens ? null : tokens.get(ordinal);
+    }
+    
+    @Override
+    public String getText() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getText() : boundToken.getText();
+    }
+    
+    @Override
+    public int getLine() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getLine() : boundToken.getLine();
+    }
+    
+    @Override
+    public int getCharPositionInLine() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getCharPositionInLine() : boundToken.getCharPositionInLine();
+    }
+    
+    @Override
+    public int getStartIndex() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getStartIndex() : boundToken.getStartIndex();
+    }
+    
+    @Override
+    public int getStopIndex() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getStopIndex() : boundToken.getStopIndex();
+    }
+    
+    @Override
+    public int getTokenIndex() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getTokenIndex() : boundToken.getTokenIndex();
+    }
+    
+    @Override
+    public TokenSource getTokenSource() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getTokenSource() : boundToken.getTokenSource();
+    }
+    
+    @Override
+    public CharStream getInputStream() {
+        Token boundToken = getBoundToken();
+        return null == boundToken ? super.getInputStream() : boundToken.getInputStream();
+    }
+}
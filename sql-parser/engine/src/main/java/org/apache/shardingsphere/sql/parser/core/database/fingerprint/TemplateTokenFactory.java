@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.List;
+
+/**
+ * Template token factory.
+ */
+@RequiredArgsConstructor
+final class TemplateTokenFactory implements TokenFactory<TemplateToken> {
+    
+    private final ThreadLocal<List<Token>> boundTokens;
+    
+    private int defaultChannelTokenCount;
+    
+    @Override
+    public TemplateToken create(final Pair<TokenSource, CharStream> source, final int type, final String text, final int channel, final int start, final int stop,
+                                final int line, final int charPositionInLine) {
+        TemplateToken result = new TemplateToken(source, type, channel, start, stop, boundTokens, Token.DEFAULT_CHANNEL == channel ? defaultChannelTokenCount++ : -1);
+        result.setLine(line);
+        result.setCharPositionInLine(charPositionInLine);
+        if (null != text) {
+            result.setText(text);
+        }
+        return result;
+    }
+    
+    @Override
+    public TemplateToken create(final int type, final String text) {
+        return new TemplateToken(type, text, boundTokens);
+    }
+}
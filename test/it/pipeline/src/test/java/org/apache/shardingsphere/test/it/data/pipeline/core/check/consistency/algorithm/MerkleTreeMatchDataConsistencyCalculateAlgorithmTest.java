@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.check.consistency.algorithm;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleTreeMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private static final int RECORDS_COUNT = 1000;
+    
+    private static PipelineDataSourceWrapper source;
+    
+    private static PipelineDataSourceWrapper target;
+    
+    private final DataConsistencyCalculateAlgorithm calculateAlgorithm = TypedSPILoader.getService(DataConsistencyCalculateAlgorithm.class, "MERKLE_TREE_MATCH",
+            PropertiesBuilder.build(new Property("max-leaf-count", "64"), new Property("fan-out", "4"), new Property("worker-count", "2")));
+    
+    @BeforeAll
+    static void setUp() throws SQLException {
+        source = new PipelineDataSourceWrapper(createHikariDataSource("merkle_source_ds"), new H2DatabaseType());
+        createTableAndInitData(source, "t_order");
+        createTableAndInitData(source, "t_order_diff");
+        target = new PipelineDataSourceWrapper(createHikariDataSource("merkle_target_ds"), new H2DatabaseType());
+        createTableAndInitData(target, "t_order");
+        createTableAndInitData(target, "t_order_diff");
+        try (
+                Connection connection = target.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order_diff SET status='changed' WHERE order_id=300");
+            statement.execute("DELETE FROM t_order_diff WHERE order_id=701");
+            statement.execute("INSERT INTO t_order_diff (order_id, user_id, status) VALUES (5000, 1, 'test')");
+        }
+    }
+    
+    @AfterAll
+    static void tearDown() throws SQLException {
+        source.close();
+        target.close();
+    }
+    
+    private static HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        result.setMinimumIdle(2);
+        return result;
+    }
+    
+    private static void createTableAndInitData(final PipelineDataSourceWrapper dataSource, final String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute(String.format("CREATE TABLE %s (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", tableName));
+            PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", tableName));
+            for (int i = 1; i <= RECORDS_COUNT; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.setInt(2, i % 10);
+                preparedStatement.setString(3, "test");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    @Test
+    void assertCalculateMatched() {
+        DataConsistencyCalculatedResult sourceCalculatedResult = calculateAlgorithm.calculate(createParameter(source, "t_order")).iterator().next();
+        assertThat(sourceCalculatedResult.getRecordsCount(), is(RECORDS_COUNT));
+        assertTrue(sourceCalculatedResult.getMaxUniqueKeyValue().isPresent());
+        assertThat(sourceCalculatedResult.getMaxUniqueKeyValue().get(), is((Object) (long) RECORDS_COUNT));
+        DataConsistencyCalculatedResult targetCalculatedResult = calculateAlgorithm.calculate(createParameter(target, "t_order")).iterator().next();
+        assertThat(sourceCalculatedResult, is(targetCalculatedResult));
+        assertTrue(sourceCalculatedResult.locateDifferences(targetCalculatedResult).isEmpty());
+    }
+    
+    @Test
+    void assertCalculateFromTableCheckPosition() {
+        DataConsistencyCalculateParameter param = new DataConsistencyCalculateParameter(source, null, "t_order", Collections.emptyList(), "H2", "H2", createUniqueKey(), 900L);
+        assertThat(calculateAlgorithm.calculate(param).iterator().next().getRecordsCount(), is(100));
+    }
+    
+    @Test
+    void assertLocateDifferences() {
+        DataConsistencyCalculatedResult sourceCalculatedResult = calculateAlgorithm.calculate(createParameter(source, "t_order_diff")).iterator().next();
+        DataConsistencyCalculatedResult targetCalculatedResult = calculateAlgorithm.calculate(createParameter(target, "t_order_diff")).iterator().next();
+        assertThat(sourceCalculatedResult, not(targetCalculatedResult));
+        assertThat(sourceCalculatedResult.locateDifferences(targetCalculatedResult),
+                is(Arrays.asList("order_id=300 content mismatched", "order_id=701 only exists in source", "order_id=5000 only exists in target")));
+    }
+    
+    @Test
+    void assertLocateDifferencesWithEmptyTarget() throws SQLException {
+        try (Connection connection = target.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE t_order_empty (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))");
+        }
+        DataConsistencyCalculatedResult sourceCalculatedResult = calculateAlgorithm.calculate(createParameter(source, "t_order")).iterator().next();
+        DataConsistencyCalculatedResult targetCalculatedResult = calculateAlgorithm.calculate(createParameter(target, "t_order_empty")).iterator().next();
+        assertThat(targetCalculatedResult.getRecordsCount(), is(0));
+        assertFalse(targetCalculatedResult.getMaxUniqueKeyValue().isPresent());
+        assertThat(sourceCalculatedResult.locateDifferences(targetCalculatedResult).size(), is(100));
+    }
+    
+    private DataConsistencyCalculateParameter createParameter(final PipelineDataSourceWrapper dataSource, final String logicTableName) {
+        return new DataConsistencyCalculateParameter(dataSource, null, logicTableName, Collections.emptyList(), "H2", "H2", createUniqueKey(), null);
+    }
+    
+    private PipelineColumnMetaData createUniqueKey() {
+        return new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+    }
+}
@@ -45,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -55,6 +56,8 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -127,6 +130,22 @@ class DataSourceImporterTest {
         verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord updateRecord1 = getDataRecord(1, "UPDATE");
+        DataRecord updateRecord2 = getDataRecord(2, "UPDATE");
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord1, updateRecord2));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement).setObject(3, 1);
+        verify(preparedStatement).setObject(3, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+    }
+    
     @Test
     void assertUpdatePrimaryKeyDataRecord() throws SQLException {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
@@ -156,18 +175,21 @@ class DataSourceImporterTest {
         return RecordUtils.extractConditionColumns(dataRecord, Collections.singleton("user"));
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new PlaceholderPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(1, recordType);
+    }
+    
+    private DataRecord getDataRecord(final int id, final String recordType) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -103,6 +103,17 @@ class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    void assertSplitInventoryDataWithNegativeIntPrimary() throws SQLException {
+        initNegativeIntPrimaryEnvironment(dumperConfig);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(2));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(-10L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(-1L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getBeginValue(), is(0L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getEndValue(), is(9L));
+    }
+    
     @Test
     void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(dumperConfig);
@@ -161,6 +172,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initNegativeIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = -10; i < 10; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (